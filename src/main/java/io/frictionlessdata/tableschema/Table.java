@@ -1,7 +1,11 @@
 package io.frictionlessdata.tableschema;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import io.frictionlessdata.tableschema.columnar.ColumnStorage;
+import io.frictionlessdata.tableschema.columnar.ColumnarTable;
 import io.frictionlessdata.tableschema.datasourceformat.CsvDataSourceFormat;
 import io.frictionlessdata.tableschema.datasourceformat.DataSourceFormat;
+import io.frictionlessdata.tableschema.datasourceformat.JsonArrayDataSourceFormat;
 import io.frictionlessdata.tableschema.datasourceformat.StringArrayDataSourceFormat;
 import io.frictionlessdata.tableschema.exception.InvalidCastException;
 import io.frictionlessdata.tableschema.exception.TableSchemaException;
@@ -9,8 +13,15 @@ import io.frictionlessdata.tableschema.exception.TableValidationException;
 import io.frictionlessdata.tableschema.exception.TypeInferringException;
 import io.frictionlessdata.tableschema.field.Field;
 import io.frictionlessdata.tableschema.iterator.BeanIterator;
+import io.frictionlessdata.tableschema.iterator.CsvChunkSpliterator;
+import io.frictionlessdata.tableschema.iterator.LazyRow;
+import io.frictionlessdata.tableschema.iterator.LazyRowIterator;
+import io.frictionlessdata.tableschema.iterator.RowBatch;
+import io.frictionlessdata.tableschema.iterator.RowBatchIterator;
+import io.frictionlessdata.tableschema.iterator.RowFilter;
 import io.frictionlessdata.tableschema.iterator.SimpleTableIterator;
 import io.frictionlessdata.tableschema.iterator.TableIterator;
+import io.frictionlessdata.tableschema.iterator.TableSpliterator;
 import io.frictionlessdata.tableschema.schema.Schema;
 import io.frictionlessdata.tableschema.util.JsonUtil;
 import io.frictionlessdata.tableschema.util.TableSchemaUtil;
@@ -20,6 +31,10 @@ import org.apache.commons.csv.CSVPrinter;
 import java.io.*;
 import java.net.URL;
 import java.util.*;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * This class represents a CSV or JSON-array encoded  table with optional CSV specification
@@ -43,6 +58,9 @@ import java.util.*;
  *  Roughly implemented after https://github.com/frictionlessdata/tableschema-py/blob/master/tableschema/table.py
  */
 public class Table{
+    // chunks of CSV files to parse in parallel are at least this many bytes
+    private static final long MIN_CHUNK_SIZE = 1024 * 1024;
+
     private DataSourceFormat dataSourceFormat = null;
     private Schema schema = null;
     private CSVFormat format = DataSourceFormat.getDefaultCsvFormat();
@@ -109,6 +127,7 @@ public class Table{
     public static Table fromSource(File dataSource, File basePath, Schema schema, CSVFormat format) throws Exception{
         Table table = fromSource(dataSource, basePath);
         table.schema = schema;
+        table.declareSchemaHeaders();
         if (null != format) {
             table.setCsvFormat(format);
         }
@@ -192,10 +211,81 @@ public class Table{
        return new TableIterator<>(this, keyed, extended, cast, relations);
     }
 
+    /**
+     * Returns an Iterator over the cast values of the fields named in `fieldNames` only, in the order given.
+     * The other columns are not cast, and for local CSV files they are not even decoded.
+     * @param fieldNames names of the fields to return
+     * @return Iterator over Object arrays with one entry per named field
+     * @throws Exception if reading the headers or validating against the Schema fails, or a field does not exist
+     */
+    public Iterator<Object[]> iterator(List<String> fieldNames) throws Exception{
+       return new TableIterator<>(this, fieldNames, false, false, true, false);
+    }
+
+    /**
+     * Returns an Iterator over the cast values of the rows matching `filter`. To test a row, only the fields
+     * `filter` refers to are cast, all other fields are cast for matching rows only.
+     * @param fieldNames names of the fields to return, null for all fields
+     * @param filter condition on the rows to return
+     * @return Iterator over Object arrays with one entry per returned field
+     * @throws Exception if reading the headers or validating against the Schema fails, or a field does not exist
+     */
+    public Iterator<Object[]> iterator(List<String> fieldNames, RowFilter filter) throws Exception{
+       return new TableIterator<>(this, fieldNames, filter, false, false, true, false);
+    }
+
     public BeanIterator iterator(Class<?> beanType, boolean relations) throws Exception{
         return new BeanIterator(this,  beanType, relations);
     }
 
+    /**
+     * Returns an Iterator over the rows as {@link LazyRow}s, which keep the values as read and cast
+     * each value on first access only.
+     * @return Iterator over LazyRows
+     * @throws Exception if reading the headers or validating against the Schema fails
+     */
+    public Iterator<LazyRow> lazyIterator() throws Exception{
+        return new LazyRowIterator(this);
+    }
+
+    /**
+     * Returns an Iterator over the rows matching `filter` as {@link LazyRow}s, containing the
+     * fields named in `fieldNames`.
+     * @param fieldNames names of the fields to return, null for all fields
+     * @param filter condition on the rows to return, null for all rows
+     * @return Iterator over LazyRows
+     * @throws Exception if reading the headers or validating against the Schema fails, or a field does not exist
+     * @see #iterator(List, RowFilter)
+     */
+    public Iterator<LazyRow> lazyIterator(List<String> fieldNames, RowFilter filter) throws Exception{
+        return new LazyRowIterator(this, fieldNames, filter);
+    }
+
+    /**
+     * Returns an Iterator over the rows in {@link RowBatch}es of `batchSize` rows, cast one field at a time.
+     * The same RowBatch is returned on every call to `next()`, holding the values of the next rows.
+     * @param batchSize maximum number of rows per batch
+     * @return Iterator over RowBatches
+     * @throws Exception if reading the headers or validating against the Schema fails
+     */
+    public Iterator<RowBatch> readBatches(int batchSize) throws Exception{
+        return new RowBatchIterator(this, batchSize);
+    }
+
+    /**
+     * Returns an Iterator over the rows matching `filter` in {@link RowBatch}es of `batchSize` rows,
+     * containing the fields named in `fieldNames`.
+     * @param batchSize maximum number of rows per batch
+     * @param fieldNames names of the fields to return, null for all fields
+     * @param filter condition on the rows to return, null for all rows
+     * @return Iterator over RowBatches
+     * @throws Exception if reading the headers or validating against the Schema fails, or a field does not exist
+     * @see #readBatches(int)
+     */
+    public Iterator<RowBatch> readBatches(int batchSize, List<String> fieldNames, RowFilter filter) throws Exception{
+        return new RowBatchIterator(this, batchSize, fieldNames, filter);
+    }
+
     public Iterator<String[]> stringArrayIterator() throws Exception{
         return new SimpleTableIterator(this, false);
     }
@@ -212,6 +302,104 @@ public class Table{
         return new TableIterator<>(this, true, extended, cast, relations);
     }
 
+    /**
+     * Returns an Iterator over Maps of field name to cast value, containing only the fields named
+     * in `fieldNames`. The other columns are not cast, and for local CSV files they are not even decoded.
+     * @param fieldNames names of the fields to return
+     * @return Iterator over Maps with one entry per named field
+     * @throws Exception if reading the headers or validating against the Schema fails, or a field does not exist
+     */
+    public Iterator<Map<String, Object>> keyedIterator(List<String> fieldNames) throws Exception{
+        return new TableIterator<>(this, fieldNames, true, false, true, false);
+    }
+
+    /**
+     * Returns an Iterator over Maps of field name to cast value for the rows matching `filter`.
+     * @param fieldNames names of the fields to return, null for all fields
+     * @param filter condition on the rows to return
+     * @return Iterator over Maps with one entry per returned field
+     * @throws Exception if reading the headers or validating against the Schema fails, or a field does not exist
+     * @see #iterator(List, RowFilter)
+     */
+    public Iterator<Map<String, Object>> keyedIterator(List<String> fieldNames, RowFilter filter) throws Exception{
+        return new TableIterator<>(this, fieldNames, filter, true, false, true, false);
+    }
+
+    /**
+     * Returns the rows of the Table as a parallel Stream. Rows are cast if the Table has a Schema.
+     *
+     * Local CSV files are split into chunks of whole records that get parsed and cast on the threads of
+     * the ForkJoinPool the Stream runs on. This is the common pool, unless the terminal operation is invoked
+     * from within a task on another pool. Other data sources are read sequentially and handed out in
+     * batches of rows by a {@link TableSpliterator}, see {@link #stream()}.
+     *
+     * The Stream should be closed if not all rows are consumed.
+     *
+     * @param ordered if false, rows may be returned in any order, which saves buffering rows of later
+     *                chunks for order-preserving operations
+     * @return a parallel Stream over the rows
+     * @throws Exception if reading the headers or validating against the Schema fails
+     */
+    public Stream<Object[]> parallelStream(boolean ordered) throws Exception{
+        boolean cast = (null != schema);
+        if ((dataSourceFormat instanceof CsvDataSourceFormat)
+                && ((CsvDataSourceFormat) dataSourceFormat).isSplittable()) {
+            CsvDataSourceFormat csvFormat = (CsvDataSourceFormat) dataSourceFormat;
+            validate();
+            CsvChunkSpliterator spliterator
+                    = new CsvChunkSpliterator(this, csvFormat.split(getChunkCount(csvFormat)), cast, ordered);
+            Stream<Object[]> stream = StreamSupport.stream(spliterator, true).onClose(spliterator::close);
+            return ordered ? stream : stream.unordered();
+        }
+        Stream<Object[]> stream = stream(cast).parallel();
+        return ordered ? stream : stream.unordered();
+    }
+
+    /**
+     * Returns the rows of the Table as a sequential Stream of Object arrays, cast if the Table has a Schema.
+     * The Stream is backed by a {@link TableSpliterator}, so it can be turned into a parallel
+     * Stream via {@link Stream#parallel()}.
+     *
+     * The Stream should be closed if not all rows are consumed.
+     * @return a Stream over the rows
+     * @throws Exception if reading the headers or validating against the Schema fails
+     */
+    public Stream<Object[]> stream() throws Exception{
+        return stream(true);
+    }
+
+    /**
+     * Returns the rows of the Table as a sequential Stream of Object arrays.
+     * @param cast whether to cast the rows according to the Schema
+     * @return a Stream over the rows
+     * @throws Exception if reading the headers or validating against the Schema fails
+     * @see #stream()
+     */
+    public Stream<Object[]> stream(boolean cast) throws Exception{
+        TableSpliterator<Object[]> spliterator = new TableSpliterator<>(this, false, cast);
+        return StreamSupport.stream(spliterator, false).onClose(spliterator::close);
+    }
+
+    /**
+     * Returns the rows of the Table as a sequential Stream of Maps of header name to cast value.
+     * @return a Stream over the rows
+     * @throws Exception if reading the headers or validating against the Schema fails
+     * @see #stream()
+     */
+    public Stream<Map<String, Object>> keyedStream() throws Exception{
+        TableSpliterator<Map<String, Object>> spliterator = new TableSpliterator<>(this, true, true);
+        return StreamSupport.stream(spliterator, false).onClose(spliterator::close);
+    }
+
+    /**
+     * Aim for a few chunks per worker thread to balance the load, but don't go below a minimum chunk size.
+     */
+    private static int getChunkCount(CsvDataSourceFormat csvFormat) throws Exception {
+        long fileSize = csvFormat.getDataLength();
+        long maxChunks = Math.max(1, fileSize / MIN_CHUNK_SIZE);
+        return (int) Math.min(maxChunks, ForkJoinPool.getCommonPoolParallelism() * 4L);
+    }
+
     public Map<Integer, Integer> getSchemaHeaderMapping() {
         try {
             if (null == schema) {
@@ -267,10 +455,11 @@ public class Table{
         
         List<Object[]> rows = new ArrayList<>();
         
-        Iterator<Object[]> iter = this.iterator(false, false, cast, false);
-        while(iter.hasNext()){
-            Object[] row = iter.next();
-            rows.add(row);
+        try (TableIterator<Object[]> iter = new TableIterator<>(this, false, false, cast, false)) {
+            while(iter.hasNext()){
+                Object[] row = iter.next();
+                rows.add(row);
+            }
         }
 
         return rows;
@@ -280,32 +469,63 @@ public class Table{
         boolean cast = (null != schema);
         return read(cast);
     }
+    /**
+     * Read and cast all rows into a {@link ColumnarTable}, which holds the values column by column in
+     * primitive vectors instead of as boxed Objects per row.
+     * @return the data of this Table in columnar form
+     * @throws Exception if the Table has no Schema, or reading or casting the data fails
+     */
+    public ColumnarTable readColumnar() throws Exception{
+        return ColumnarTable.read(this);
+    }
+
+    /**
+     * Read and cast all rows into a {@link ColumnarTable}, with the primitive vectors on or off the heap.
+     * Off-heap tables don't count against the heap size and must be freed by {@link ColumnarTable#close()}.
+     * @param storage whether to keep the primitive vectors on or off the heap
+     * @return the data of this Table in columnar form
+     * @throws Exception if the Table has no Schema, or reading or casting the data fails
+     */
+    public ColumnarTable readColumnar(ColumnStorage storage) throws Exception{
+        return ColumnarTable.read(this, storage);
+    }
+
     public String asJson() {
-        try {
-            List<Map<String, Object>> arr = new ArrayList<>();
-            List<Object[]> records = read();
-            Schema schema = (null != this.schema) ? this.schema : this.inferSchema();
-            for (Object[] rec : records) {
-                Map<String, Object> obj = new HashMap<>();
-                int i = 0;
-                for (Field field : schema.getFields()) {
-                    Object s = rec[i];
-                    obj.put(field.getName(), field.formatValueForJson(s));
-                    i++;
+        StringWriter out = new StringWriter();
+        write(out, DataSourceFormat.Format.FORMAT_JSON);
+        return out.toString();
+    }
+
+    /**
+     * Write the rows as a JSON array of JSON objects, with the properties in the order of the
+     * Schema fields. Rows are read, converted and written one at a time, so memory consumption
+     * does not depend on the number of rows. If the Table has no Schema, one gets inferred,
+     * which takes an additional pass over the data.
+     */
+    private void writeJson(Writer out) throws Exception {
+        boolean cast = (null != this.schema);
+        Schema schema = (null != this.schema) ? this.schema : this.inferSchema();
+        Field[] fields = schema.getFields().toArray(new Field[0]);
+
+        try (JsonGenerator generator = JsonUtil.getInstance().createGenerator(out, true);
+             TableIterator<Object[]> iter = new TableIterator<>(this, false, false, cast, false)) {
+            generator.writeStartArray();
+            while (iter.hasNext()) {
+                Object[] rec = iter.next();
+                generator.writeStartObject();
+                for (int i = 0; i < fields.length; i++) {
+                    generator.writeFieldName(fields[i].getName());
+                    generator.writeObject(fields[i].formatValueForJson(rec[i]));
                 }
-                arr.add(obj);
+                generator.writeEndObject();
             }
-            return JsonUtil.getInstance().serialize(arr);
-        } catch (Exception ex) {
-            if (ex instanceof RuntimeException)
-                throw (RuntimeException)ex;
-            throw new RuntimeException(ex);
+            generator.writeEndArray();
         }
     }
 
     private void writeCSVData(Map<Integer, Integer> mapping, CSVPrinter csvPrinter) {
-        try {
-            this.iterator(false, false, false, false).forEachRemaining((record) -> {
+        try (TableIterator<Object[]> iter = new TableIterator<>(this, false, false, false, false)) {
+            iter.forEachRemaining((record) -> {
                 String[] sortedRec = new String[record.length];
                 for (int i = 0; i < record.length; i++) {
                     sortedRec[mapping.get(i)] = (String)record[i];
@@ -381,8 +601,7 @@ public class Table{
                     throw new RuntimeException(ex);
                 }
             } else if (dataFormat.equals(DataSourceFormat.Format.FORMAT_JSON)) {
-                String content = this.asJson();
-                out.write(content);
+                writeJson(out);
             }
         } catch (Exception ex) {
             if (ex instanceof RuntimeException)
@@ -472,10 +691,35 @@ public class Table{
         }
     }
 
+    /**
+     * Infer a Schema from the data and set it on this Table. Rows are read one by one and only as many as
+     * needed, so with a `rowLimit`, the time it takes does not depend on the size of the data.
+     * @param headers the column names
+     * @param rowLimit index of the last row to look at, -1 to look at all rows
+     * @return the inferred Schema
+     * @throws TypeInferringException if reading the data or inferring fails
+     */
     public Schema inferSchema(String[] headers, int rowLimit) throws TypeInferringException{
-        try{
-            List<Object[]> data = read();
-            schema = Schema.infer(data, headers, rowLimit);
+        return inferSchema(headers, rowLimit, null, 1);
+    }
+
+    /**
+     * Infer a Schema from the data and set it on this Table, with the columns inferred by up to `parallelism`
+     * tasks at a time on the `executor`. Rows are still read by one thread, so this pays off for tables with
+     * many columns. The Schema is the same as the one inferred by {@link #inferSchema(String[], int)}.
+     * @param headers the column names
+     * @param rowLimit index of the last row to look at, -1 to look at all rows
+     * @param executor the Executor to run the inferral tasks on, if null, the Schema gets inferred on the calling thread
+     * @param parallelism the maximum number of tasks to run at the same time
+     * @return the inferred Schema
+     * @throws TypeInferringException if reading the data or inferring fails
+     */
+    public Schema inferSchema(String[] headers, int rowLimit, Executor executor, int parallelism) throws TypeInferringException{
+        // uncast rows, like read() gives them: Strings as in the data, or if a Schema is set,
+        // the values cast by it and formatted back to Strings
+        try (Stream<Object[]> rows = stream(false)) {
+            schema = Schema.infer(rows.iterator(), headers, rowLimit, executor, parallelism);
+            declareSchemaHeaders();
             return schema;
 
         }catch(Exception e){
@@ -484,6 +728,28 @@ public class Table{
     }
 
 
+    /**
+     * Infer a Schema from a random sample of the rows and set it on this Table. Other than
+     * {@link #inferSchema(int)}, which only looks at the first rows, this gives representative
+     * results for sorted data, while the cost of inferral stays fixed.
+     * @param sampleSize the number of rows to infer the types from
+     * @param seed seed for choosing the sample, the same seed on the same data gives the same Schema
+     * @return the inferred Schema
+     * @throws TypeInferringException if reading the data or inferring fails
+     */
+    public Schema inferSchemaFromSample(int sampleSize, long seed) throws TypeInferringException{
+        // uncast rows, like read() gives them: Strings as in the data, or if a Schema is set,
+        // the values cast by it and formatted back to Strings
+        try (Stream<Object[]> rows = stream(false)) {
+            schema = Schema.inferFromSample(rows.iterator(), getHeaders(), sampleSize, seed);
+            declareSchemaHeaders();
+            return schema;
+
+        }catch(Exception e){
+            throw new TypeInferringException(e);
+        }
+    }
+
     public Table setCsvFormat(CSVFormat format) {
         this.format = format;
         if ((null != dataSourceFormat) && (dataSourceFormat instanceof CsvDataSourceFormat)) {
@@ -511,6 +777,7 @@ public class Table{
      */
     public Table setSchema(Schema schema) {
         this.schema = schema;
+        declareSchemaHeaders();
         if (null != dataSourceFormat)
             validate();
         return this;
@@ -531,11 +798,23 @@ public class Table{
      */
     public Table setDataSourceFormat(DataSourceFormat fmt) {
         this.dataSourceFormat = fmt;
+        declareSchemaHeaders();
         if (null != schema)
             validate();
         return this;
     }
 
+    /**
+     * A streaming {@link JsonArrayDataSourceFormat} can only look ahead a limited number of JSON objects
+     * to find the headers. If we have a Schema, its field names are the headers to use.
+     */
+    private void declareSchemaHeaders() {
+        if (dataSourceFormat instanceof JsonArrayDataSourceFormat) {
+            String[] declaredHeaders = ((null != schema) && schema.hasFields()) ? getDeclaredHeaders() : null;
+            ((JsonArrayDataSourceFormat) dataSourceFormat).setDeclaredHeaders(declaredHeaders);
+        }
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -552,12 +831,13 @@ public class Table{
             List<Object[]> data = table.read();
             List<Object[]> oData = ((Table) o).read();
             equals = equals & data.size() == oData.size();
-            Iterator<Object[]> iterator = this.iterator(false, false, false, true);
-            Iterator<Object[]> oIter = ((Table) o).iterator(false, false, false, true);
-            while (iterator.hasNext()) {
-                Object[] arr = iterator.next();
-                Object[] oArr = oIter.next();
-                equals = equals & Arrays.equals(arr, oArr);
+            try (TableIterator<Object[]> iterator = new TableIterator<>(this, false, false, false, true);
+                 TableIterator<Object[]> oIter = new TableIterator<>((Table) o, false, false, false, true)) {
+                while (iterator.hasNext()) {
+                    Object[] arr = iterator.next();
+                    Object[] oArr = oIter.next();
+                    equals = equals & Arrays.equals(arr, oArr);
+                }
             }
             return equals;
         } catch (Exception ex) {
@@ -0,0 +1,70 @@
+package io.frictionlessdata.tableschema.columnar;
+
+import io.frictionlessdata.tableschema.field.Field;
+
+import java.util.BitSet;
+
+/**
+ * Column of boolean values in a bitset, one bit per row.
+ */
+public class BooleanColumn extends Column {
+    private final BitSet values;
+
+    BooleanColumn(Field<?> field, int size, BitSet nulls, VectorAllocator allocator, BitSet values) {
+        super(field, size, nulls, allocator);
+        this.values = values;
+    }
+
+    /**
+     * Returns the value in `row`, false if there is no value
+     * @param row index of the row
+     * @return the value as boolean
+     */
+    public boolean getBoolean(int row) {
+        return values.get(row);
+    }
+
+    @Override
+    public Boolean get(int row) {
+        return nulls.get(row) ? null : values.get(row);
+    }
+
+    /**
+     * Returns the number of rows with the value true
+     * @return the number of true values
+     */
+    public int getTrueCount() {
+        return values.cardinality();
+    }
+
+    static class Builder extends ColumnBuilder {
+        private final BitSet values = new BitSet();
+
+        Builder(Field<?> field, VectorAllocator allocator) {
+            super(field, allocator);
+        }
+
+        @Override
+        void appendNull() {
+            // bits are false by default
+        }
+
+        @Override
+        boolean append(Object value) {
+            if (!(value instanceof Boolean))
+                return false;
+            values.set(size, (Boolean) value);
+            return true;
+        }
+
+        @Override
+        Object get(int row) {
+            return nulls.get(row) ? null : values.get(row);
+        }
+
+        @Override
+        Column build() {
+            return new BooleanColumn(field, size, nulls, allocator, values);
+        }
+    }
+}
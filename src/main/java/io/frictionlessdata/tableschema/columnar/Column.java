@@ -0,0 +1,72 @@
+package io.frictionlessdata.tableschema.columnar;
+
+import io.frictionlessdata.tableschema.field.Field;
+
+import java.util.BitSet;
+
+/**
+ * The values of one {@link Field} for all rows of a {@link ColumnarTable}, stored in a vector
+ * of the type that fits the Field best. Missing values are tracked in a null bitmap, the
+ * vector holds a default value at their position.
+ *
+ * Primitive vectors are on or off the heap depending on the {@link ColumnStorage} of the table.
+ * Null bitmaps, boolean bits, String dictionaries and Objects always stay on the heap.
+ */
+public abstract class Column {
+    final Field<?> field;
+    final int size;
+    final BitSet nulls;
+    final VectorAllocator allocator;
+
+    Column(Field<?> field, int size, BitSet nulls, VectorAllocator allocator) {
+        this.field = field;
+        this.size = size;
+        this.nulls = nulls;
+        this.allocator = allocator;
+    }
+
+    /**
+     * Returns the Schema Field the values of this Column were cast with
+     * @return the Field of this Column
+     */
+    public Field<?> getField() {
+        return field;
+    }
+
+    /**
+     * Returns the number of values in this Column, which is the number of rows of the table
+     * @return the number of values
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns true if the value in `row` is missing
+     * @param row index of the row
+     * @return true if there is no value in `row`
+     */
+    public boolean isNull(int row) {
+        return nulls.get(row);
+    }
+
+    /**
+     * Returns the number of missing values in this Column
+     * @return the number of null values
+     */
+    public int getNullCount() {
+        return nulls.cardinality();
+    }
+
+    /**
+     * Returns the value in `row` as an Object. Depending on the vector type, this is not necessarily
+     * the class {@link Field#castValue(String)} returns: integers come back as Long and numbers as Double.
+     *
+     * Columns with values that don't fit the vector fall back to an {@link ObjectColumn}. Integers
+     * are BigIntegers then, as cast by the Field. Numbers are Doubles for the rows up to the first
+     * value that didn't fit, and the values as cast by the Field from there on.
+     * @param row index of the row
+     * @return the value, or null if there is no value in `row`
+     */
+    public abstract Object get(int row);
+}
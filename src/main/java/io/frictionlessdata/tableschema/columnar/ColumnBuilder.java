@@ -0,0 +1,99 @@
+package io.frictionlessdata.tableschema.columnar;
+
+import io.frictionlessdata.tableschema.field.Field;
+
+import java.util.BitSet;
+
+/**
+ * Collects the cast values of one Field row by row and creates the {@link Column} holding them.
+ */
+abstract class ColumnBuilder {
+    static final int INITIAL_CAPACITY = 1 << 10;
+
+    final Field<?> field;
+    final VectorAllocator allocator;
+    final BitSet nulls = new BitSet();
+    int size = 0;
+
+    ColumnBuilder(Field<?> field, VectorAllocator allocator) {
+        this.field = field;
+        this.allocator = allocator;
+    }
+
+    /**
+     * Append the value of the next row.
+     * @param value the cast value, or null
+     * @return false if the value does not fit the vector of this builder. Nothing gets appended then
+     */
+    boolean add(Object value) {
+        if (null == value) {
+            appendNull();
+            nulls.set(size);
+        } else if (!append(value)) {
+            return false;
+        }
+        size++;
+        return true;
+    }
+
+    /**
+     * Store a default value at index `size`
+     */
+    abstract void appendNull();
+
+    /**
+     * Store the value at index `size`
+     * @return false if the value does not fit the vector
+     */
+    abstract boolean append(Object value);
+
+    /**
+     * Returns a value already added, as returned by the built Column
+     */
+    abstract Object get(int row);
+
+    /**
+     * Returns a value already added, as the {@link ObjectColumn} this builder falls back to holds it.
+     * By default the same as {@link #get(int)}
+     */
+    Object getFallbackValue(int row) {
+        return get(row);
+    }
+
+    abstract Column build();
+
+    /**
+     * Free the vectors of a builder that gets replaced. Nothing to do for vectors on the heap
+     */
+    void discard() {
+    }
+
+    /**
+     * Returns the capacity to grow a full vector to
+     */
+    static int newCapacity(int capacity) {
+        return Math.max(INITIAL_CAPACITY, capacity + (capacity >> 1));
+    }
+
+    /**
+     * Returns the builder for the vector type that fits the Field's type best. Values that don't fit
+     * that vector type after all make the column fall back to an {@link ObjectColumn}.
+     */
+    static ColumnBuilder forField(Field<?> field, VectorAllocator allocator) {
+        switch (field.getType()) {
+            case Field.FIELD_TYPE_INTEGER:
+                return new LongColumn.Builder(field, allocator);
+            case Field.FIELD_TYPE_NUMBER:
+                return new DoubleColumn.Builder(field, allocator);
+            case Field.FIELD_TYPE_YEAR:
+            case Field.FIELD_TYPE_DATE:
+                return new IntColumn.Builder(field, allocator);
+            case Field.FIELD_TYPE_BOOLEAN:
+                return new BooleanColumn.Builder(field, allocator);
+            case Field.FIELD_TYPE_STRING:
+                return new DictionaryColumn.Builder(field, allocator);
+            default:
+                return new ObjectColumn.Builder(field, allocator);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package io.frictionlessdata.tableschema.columnar;
+
+/**
+ * Where a {@link ColumnarTable} keeps the primitive vectors of its Columns.
+ */
+public enum ColumnStorage {
+    /**
+     * Vectors are Java arrays on the heap, freed by the garbage collector
+     */
+    HEAP,
+    /**
+     * Vectors are direct ByteBuffers outside the heap, freed by {@link ColumnarTable#close()}.
+     * They don't count against the heap size, and the garbage collector doesn't scan or copy them.
+     */
+    OFF_HEAP
+}
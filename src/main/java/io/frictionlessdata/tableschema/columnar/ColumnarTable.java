@@ -0,0 +1,170 @@
+package io.frictionlessdata.tableschema.columnar;
+
+import io.frictionlessdata.tableschema.Table;
+import io.frictionlessdata.tableschema.exception.InvalidCastException;
+import io.frictionlessdata.tableschema.exception.TableSchemaException;
+import io.frictionlessdata.tableschema.field.Field;
+import io.frictionlessdata.tableschema.schema.Schema;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * The cast data of a {@link Table}, held in memory column by column instead of row by row.
+ *
+ * Each Schema Field gets a {@link Column} with a vector of the type that fits the Field:
+ * <ul>
+ *     <li>integer: {@link LongColumn}</li>
+ *     <li>number: {@link DoubleColumn}</li>
+ *     <li>year and date: {@link IntColumn}, dates as epoch days</li>
+ *     <li>boolean: {@link BooleanColumn}</li>
+ *     <li>string: {@link DictionaryColumn}</li>
+ *     <li>all other types: {@link ObjectColumn}</li>
+ * </ul>
+ * Compared to the boxed values returned by {@link Table#read()}, this takes a fraction of the
+ * memory, and scanning a column reads consecutive memory.
+ *
+ * With {@link ColumnStorage#OFF_HEAP}, the primitive vectors live in direct memory outside the heap.
+ * That memory is freed by {@link #close()}, after which the Columns can no longer be read.
+ */
+public class ColumnarTable implements AutoCloseable {
+    private final Schema schema;
+    private final Column[] columns;
+    private final int rowCount;
+    private final VectorAllocator allocator;
+
+    ColumnarTable(Schema schema, Column[] columns, int rowCount, VectorAllocator allocator) {
+        this.schema = schema;
+        this.columns = columns;
+        this.rowCount = rowCount;
+        this.allocator = allocator;
+    }
+
+    /**
+     * Read and cast all rows of a Table into Columns on the heap.
+     * @param table the Table to read. Must have a Schema
+     * @return the data of the Table
+     * @throws Exception if reading or casting the data fails
+     */
+    public static ColumnarTable read(Table table) throws Exception {
+        return read(table, ColumnStorage.HEAP);
+    }
+
+    /**
+     * Read and cast all rows of a Table into Columns.
+     * @param table the Table to read. Must have a Schema
+     * @param storage whether to keep the primitive vectors on or off the heap
+     * @return the data of the Table
+     * @throws Exception if reading or casting the data fails
+     */
+    public static ColumnarTable read(Table table, ColumnStorage storage) throws Exception {
+        Schema schema = table.getSchema();
+        if (null == schema) {
+            throw new TableSchemaException("Cannot cast without a schema");
+        }
+        if (!schema.hasFields()) {
+            throw new InvalidCastException("Schema has no fields");
+        }
+        List<Field> fields = schema.getFields();
+        VectorAllocator allocator = new VectorAllocator(storage);
+        ColumnBuilder[] builders = new ColumnBuilder[fields.size()];
+        for (int i = 0; i < builders.length; i++) {
+            builders[i] = ColumnBuilder.forField(fields.get(i), allocator);
+        }
+
+        int rowCount = 0;
+        try (Stream<Object[]> rows = table.stream(true)) {
+            Iterator<Object[]> iter = rows.iterator();
+            while (iter.hasNext()) {
+                Object[] row = iter.next();
+                for (int i = 0; i < builders.length; i++) {
+                    Object value = (i < row.length) ? row[i] : null;
+                    if (!builders[i].add(value)) {
+                        builders[i] = new ObjectColumn.Builder(builders[i]);
+                        builders[i].add(value);
+                    }
+                }
+                rowCount++;
+            }
+        } catch (Exception ex) {
+            allocator.close();
+            throw ex;
+        }
+
+        Column[] columns = new Column[builders.length];
+        for (int i = 0; i < builders.length; i++) {
+            columns[i] = builders[i].build();
+        }
+        return new ColumnarTable(schema, columns, rowCount, allocator);
+    }
+
+    /**
+     * Free the memory of vectors stored off the heap. Reading a Column afterwards throws a
+     * {@link TableSchemaException}. Must not be called while other threads read from this table.
+     */
+    @Override
+    public void close() {
+        allocator.close();
+    }
+
+    public Schema getSchema() {
+        return schema;
+    }
+
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    public int getColumnCount() {
+        return columns.length;
+    }
+
+    /**
+     * Returns the Column for the Schema Field at `index`
+     * @param index index of the Field in the Schema
+     * @return the Column
+     */
+    public Column getColumn(int index) {
+        return columns[index];
+    }
+
+    /**
+     * Returns the Column for the Schema Field with the given name, ignoring case like {@link Schema#getField(String)}
+     * @param name name of the Field
+     * @return the Column, or null if there is no Field with that name
+     */
+    public Column getColumn(String name) {
+        for (Column column : columns) {
+            if (column.getField().getName().equalsIgnoreCase(name)) {
+                return column;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the value in `row` of the Column at `column`
+     * @param row index of the row
+     * @param column index of the Column
+     * @return the value as returned by {@link Column#get(int)}
+     */
+    public Object getValue(int row, int column) {
+        return columns[column].get(row);
+    }
+
+    /**
+     * Returns the values of one row
+     * @param row index of the row
+     * @return the values as returned by {@link Column#get(int)}, in Schema order
+     */
+    public Object[] getRow(int row) {
+        if ((row < 0) || (row >= rowCount))
+            throw new IndexOutOfBoundsException("Row "+row+" out of range for "+rowCount+" rows");
+        Object[] values = new Object[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            values[i] = columns[i].get(row);
+        }
+        return values;
+    }
+}
@@ -0,0 +1,101 @@
+package io.frictionlessdata.tableschema.columnar;
+
+import io.frictionlessdata.tableschema.field.Field;
+
+import java.nio.IntBuffer;
+import java.util.*;
+
+/**
+ * Column of String values, dictionary-encoded: every distinct value is stored once, and
+ * the rows hold the index of their value in the dictionary in a vector of ints.
+ */
+public class DictionaryColumn extends Column {
+    private final IntBuffer codes;
+    private final String[] dictionary;
+
+    DictionaryColumn(Field<?> field, int size, BitSet nulls, VectorAllocator allocator, IntBuffer codes, String[] dictionary) {
+        super(field, size, nulls, allocator);
+        this.codes = codes;
+        this.dictionary = dictionary;
+    }
+
+    /**
+     * Returns the index of the value in `row` in the dictionary, -1 if there is no value
+     * @param row index of the row
+     * @return the dictionary code of the value
+     */
+    public int getCode(int row) {
+        allocator.checkOpen();
+        return codes.get(row);
+    }
+
+    /**
+     * Returns the distinct values of this Column, in the order they first occur
+     * @return the dictionary of values
+     */
+    public List<String> getDictionary() {
+        return Collections.unmodifiableList(Arrays.asList(dictionary));
+    }
+
+    @Override
+    public String get(int row) {
+        allocator.checkOpen();
+        int code = codes.get(row);
+        return (code < 0) ? null : dictionary[code];
+    }
+
+    static class Builder extends ColumnBuilder {
+        private IntBuffer codes;
+        private final Map<String, Integer> codeByValue = new HashMap<>();
+        private final List<String> dictionary = new ArrayList<>();
+
+        Builder(Field<?> field, VectorAllocator allocator) {
+            super(field, allocator);
+            this.codes = allocator.allocateInts(0);
+        }
+
+        @Override
+        void appendNull() {
+            ensureCapacity();
+            codes.put(size, -1);
+        }
+
+        @Override
+        boolean append(Object value) {
+            if (!(value instanceof String))
+                return false;
+            Integer code = codeByValue.get(value);
+            if (null == code) {
+                code = dictionary.size();
+                dictionary.add((String) value);
+                codeByValue.put((String) value, code);
+            }
+            ensureCapacity();
+            codes.put(size, code);
+            return true;
+        }
+
+        @Override
+        Object get(int row) {
+            int code = codes.get(row);
+            return (code < 0) ? null : dictionary.get(code);
+        }
+
+        @Override
+        Column build() {
+            if (codes.capacity() > size)
+                codes = allocator.resize(codes, size, size);
+            return new DictionaryColumn(field, size, nulls, allocator, codes, dictionary.toArray(new String[0]));
+        }
+
+        @Override
+        void discard() {
+            allocator.release(codes);
+        }
+
+        private void ensureCapacity() {
+            if (size == codes.capacity())
+                codes = allocator.resize(codes, size, newCapacity(size));
+        }
+    }
+}
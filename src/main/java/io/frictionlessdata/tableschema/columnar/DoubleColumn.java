@@ -0,0 +1,107 @@
+package io.frictionlessdata.tableschema.columnar;
+
+import io.frictionlessdata.tableschema.field.Field;
+
+import java.math.BigDecimal;
+import java.nio.DoubleBuffer;
+import java.util.BitSet;
+
+/**
+ * Column of number values in a vector of doubles. Columns with numbers that a double can't
+ * hold exactly, like decimals with more significant digits, are stored as an {@link ObjectColumn}
+ * instead.
+ */
+public class DoubleColumn extends Column {
+    private final DoubleBuffer values;
+
+    DoubleColumn(Field<?> field, int size, BitSet nulls, VectorAllocator allocator, DoubleBuffer values) {
+        super(field, size, nulls, allocator);
+        this.values = values;
+    }
+
+    /**
+     * Returns the value in `row`, 0 if there is no value
+     * @param row index of the row
+     * @return the value as double
+     */
+    public double getDouble(int row) {
+        allocator.checkOpen();
+        return values.get(row);
+    }
+
+    @Override
+    public Double get(int row) {
+        allocator.checkOpen();
+        return nulls.get(row) ? null : values.get(row);
+    }
+
+    static class Builder extends ColumnBuilder {
+        // longs of up to 53 bits are exact as double
+        private static final long MAX_EXACT_LONG = 1L << 53;
+        private DoubleBuffer values;
+
+        Builder(Field<?> field, VectorAllocator allocator) {
+            super(field, allocator);
+            this.values = allocator.allocateDoubles(0);
+        }
+
+        @Override
+        void appendNull() {
+            ensureCapacity();
+        }
+
+        @Override
+        boolean append(Object value) {
+            if (!(value instanceof Number))
+                return false;
+            double doubleValue = ((Number) value).doubleValue();
+            if (!isExact((Number) value, doubleValue))
+                return false;
+            ensureCapacity();
+            values.put(size, doubleValue);
+            return true;
+        }
+
+        /**
+         * Returns true if `doubleValue` is `value` without rounding. Decimals count as exact
+         * if they are the shortest decimal representation of the double, so 0.1 still fits
+         */
+        static boolean isExact(Number value, double doubleValue) {
+            if ((value instanceof Double) || (value instanceof Float))
+                return true;
+            if ((value instanceof Long) || (value instanceof Integer)) {
+                long longValue = value.longValue();
+                if ((longValue <= MAX_EXACT_LONG) && (longValue >= -MAX_EXACT_LONG))
+                    return true;
+            }
+            if (Double.isInfinite(doubleValue) || Double.isNaN(doubleValue))
+                return false;
+            BigDecimal decimal = (value instanceof BigDecimal)
+                    ? (BigDecimal) value
+                    : new BigDecimal(value.toString());
+            return BigDecimal.valueOf(doubleValue).compareTo(decimal) == 0;
+        }
+
+        @Override
+        Object get(int row) {
+            return nulls.get(row) ? null : values.get(row);
+        }
+
+        @Override
+        Column build() {
+            if (values.capacity() > size)
+                values = allocator.resize(values, size, size);
+            return new DoubleColumn(field, size, nulls, allocator, values);
+        }
+
+        @Override
+        void discard() {
+            allocator.release(values);
+        }
+
+        private void ensureCapacity() {
+            if (size == values.capacity())
+                values = allocator.resize(values, size, newCapacity(size));
+        }
+    }
+}
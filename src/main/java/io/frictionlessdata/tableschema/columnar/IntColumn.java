@@ -0,0 +1,101 @@
+package io.frictionlessdata.tableschema.columnar;
+
+import io.frictionlessdata.tableschema.field.Field;
+
+import java.nio.IntBuffer;
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.BitSet;
+
+/**
+ * Column of year or date values in a vector of ints. Years are stored as their number, dates as
+ * their epoch day, the number of days since 1970-01-01.
+ */
+public class IntColumn extends Column {
+    private final IntBuffer values;
+    private final boolean epochDays;
+
+    IntColumn(Field<?> field, int size, BitSet nulls, VectorAllocator allocator, IntBuffer values) {
+        super(field, size, nulls, allocator);
+        this.values = values;
+        this.epochDays = field.getType().equals(Field.FIELD_TYPE_DATE);
+    }
+
+    /**
+     * Returns the value in `row` as stored: the year or the epoch day, 0 if there is no value
+     * @param row index of the row
+     * @return the value as int
+     */
+    public int getInt(int row) {
+        allocator.checkOpen();
+        return values.get(row);
+    }
+
+    /**
+     * Returns the value in `row` as {@link Year} or {@link LocalDate}
+     * @param row index of the row
+     * @return the value, or null if there is no value in `row`
+     */
+    @Override
+    public Object get(int row) {
+        allocator.checkOpen();
+        return nulls.get(row) ? null : decode(values.get(row), epochDays);
+    }
+
+    private static Object decode(int value, boolean epochDays) {
+        return epochDays ? LocalDate.ofEpochDay(value) : Year.of(value);
+    }
+
+    static class Builder extends ColumnBuilder {
+        private IntBuffer values;
+
+        Builder(Field<?> field, VectorAllocator allocator) {
+            super(field, allocator);
+            this.values = allocator.allocateInts(0);
+        }
+
+        @Override
+        void appendNull() {
+            ensureCapacity();
+        }
+
+        @Override
+        boolean append(Object value) {
+            long intValue;
+            if (value instanceof Year) {
+                intValue = ((Year) value).getValue();
+            } else if (value instanceof LocalDate) {
+                intValue = ((LocalDate) value).toEpochDay();
+            } else {
+                return false;
+            }
+            if ((intValue < Integer.MIN_VALUE) || (intValue > Integer.MAX_VALUE))
+                return false;
+            ensureCapacity();
+            values.put(size, (int) intValue);
+            return true;
+        }
+
+        @Override
+        Object get(int row) {
+            return nulls.get(row) ? null : decode(values.get(row), field.getType().equals(Field.FIELD_TYPE_DATE));
+        }
+
+        @Override
+        Column build() {
+            if (values.capacity() > size)
+                values = allocator.resize(values, size, size);
+            return new IntColumn(field, size, nulls, allocator, values);
+        }
+
+        @Override
+        void discard() {
+            allocator.release(values);
+        }
+
+        private void ensureCapacity() {
+            if (size == values.capacity())
+                values = allocator.resize(values, size, newCapacity(size));
+        }
+    }
+}
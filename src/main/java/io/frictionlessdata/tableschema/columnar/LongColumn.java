@@ -0,0 +1,93 @@
+package io.frictionlessdata.tableschema.columnar;
+
+import io.frictionlessdata.tableschema.field.Field;
+
+import java.math.BigInteger;
+import java.nio.LongBuffer;
+import java.util.BitSet;
+
+/**
+ * Column of integer values in a vector of longs. Columns with values outside the range of `long`
+ * are stored as an {@link ObjectColumn} of BigIntegers instead.
+ */
+public class LongColumn extends Column {
+    private final LongBuffer values;
+
+    LongColumn(Field<?> field, int size, BitSet nulls, VectorAllocator allocator, LongBuffer values) {
+        super(field, size, nulls, allocator);
+        this.values = values;
+    }
+
+    /**
+     * Returns the value in `row`, 0 if there is no value
+     * @param row index of the row
+     * @return the value as long
+     */
+    public long getLong(int row) {
+        allocator.checkOpen();
+        return values.get(row);
+    }
+
+    @Override
+    public Long get(int row) {
+        allocator.checkOpen();
+        return nulls.get(row) ? null : values.get(row);
+    }
+
+    static class Builder extends ColumnBuilder {
+        private LongBuffer values;
+
+        Builder(Field<?> field, VectorAllocator allocator) {
+            super(field, allocator);
+            this.values = allocator.allocateLongs(0);
+        }
+
+        @Override
+        void appendNull() {
+            ensureCapacity();
+        }
+
+        @Override
+        boolean append(Object value) {
+            long longValue;
+            if ((value instanceof Long) || (value instanceof Integer)) {
+                longValue = ((Number) value).longValue();
+            } else if ((value instanceof BigInteger) && (((BigInteger) value).bitLength() < 64)) {
+                longValue = ((BigInteger) value).longValue();
+            } else {
+                return false;
+            }
+            ensureCapacity();
+            values.put(size, longValue);
+            return true;
+        }
+
+        @Override
+        Object get(int row) {
+            return nulls.get(row) ? null : values.get(row);
+        }
+
+        // like the values that don't fit, as cast by the IntegerField
+        @Override
+        Object getFallbackValue(int row) {
+            return nulls.get(row) ? null : BigInteger.valueOf(values.get(row));
+        }
+
+        @Override
+        Column build() {
+            if (values.capacity() > size)
+                values = allocator.resize(values, size, size);
+            return new LongColumn(field, size, nulls, allocator, values);
+        }
+
+        @Override
+        void discard() {
+            allocator.release(values);
+        }
+
+        private void ensureCapacity() {
+            if (size == values.capacity())
+                values = allocator.resize(values, size, newCapacity(size));
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package io.frictionlessdata.tableschema.columnar;
+
+import io.frictionlessdata.tableschema.field.Field;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Column of values as returned by {@link Field#castValue(String)}, for the Field types
+ * that have no primitive representation.
+ */
+public class ObjectColumn extends Column {
+    private final Object[] values;
+
+    ObjectColumn(Field<?> field, int size, BitSet nulls, VectorAllocator allocator, Object[] values) {
+        super(field, size, nulls, allocator);
+        this.values = values;
+    }
+
+    @Override
+    public Object get(int row) {
+        return values[row];
+    }
+
+    static class Builder extends ColumnBuilder {
+        private Object[] values = new Object[0];
+
+        Builder(Field<?> field, VectorAllocator allocator) {
+            super(field, allocator);
+        }
+
+        /**
+         * Take over the values of a builder whose vector can't hold all values of its Field
+         */
+        Builder(ColumnBuilder builder) {
+            super(builder.field, builder.allocator);
+            values = new Object[Math.max(builder.size, INITIAL_CAPACITY)];
+            for (int i = 0; i < builder.size; i++) {
+                values[i] = builder.getFallbackValue(i);
+            }
+            nulls.or(builder.nulls);
+            size = builder.size;
+            builder.discard();
+        }
+
+        @Override
+        void appendNull() {
+            ensureCapacity();
+        }
+
+        @Override
+        boolean append(Object value) {
+            ensureCapacity();
+            values[size] = value;
+            return true;
+        }
+
+        @Override
+        Object get(int row) {
+            return values[row];
+        }
+
+        @Override
+        Column build() {
+            return new ObjectColumn(field, size, nulls, allocator, Arrays.copyOf(values, size));
+        }
+
+        private void ensureCapacity() {
+            if (size == values.length)
+                values = Arrays.copyOf(values, newCapacity(values.length));
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package io.frictionlessdata.tableschema.columnar;
+
+import io.frictionlessdata.tableschema.exception.TableSchemaException;
+import io.frictionlessdata.tableschema.util.ByteBufferUtil;
+
+import java.nio.*;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Allocates the primitive vectors of the Columns of one {@link ColumnarTable}, either as array-backed
+ * buffers on the heap, or as views on direct ByteBuffers. Direct ByteBuffers are tracked and freed
+ * when they are replaced by a bigger vector and when the table is closed, without waiting for
+ * the garbage collector.
+ *
+ * Freeing memory that is still in use crashes the JVM, so all vector access has to check
+ * {@link #checkOpen()} first, and a table must not be closed while other threads read from it.
+ */
+class VectorAllocator implements AutoCloseable {
+    private final boolean offHeap;
+    // the direct ByteBuffer backing each vector handed out
+    private final Map<Buffer, ByteBuffer> directBuffers = new IdentityHashMap<>();
+    // written by close(), read by checkOpen() on the threads reading the Columns
+    private volatile boolean closed = false;
+
+    VectorAllocator(ColumnStorage storage) {
+        this.offHeap = (storage == ColumnStorage.OFF_HEAP);
+    }
+
+    LongBuffer allocateLongs(int capacity) {
+        if (!offHeap)
+            return LongBuffer.allocate(capacity);
+        ByteBuffer direct = allocateDirect(byteSize(capacity, Long.BYTES));
+        return register(direct.asLongBuffer(), direct);
+    }
+
+    IntBuffer allocateInts(int capacity) {
+        if (!offHeap)
+            return IntBuffer.allocate(capacity);
+        ByteBuffer direct = allocateDirect(byteSize(capacity, Integer.BYTES));
+        return register(direct.asIntBuffer(), direct);
+    }
+
+    DoubleBuffer allocateDoubles(int capacity) {
+        if (!offHeap)
+            return DoubleBuffer.allocate(capacity);
+        ByteBuffer direct = allocateDirect(byteSize(capacity, Double.BYTES));
+        return register(direct.asDoubleBuffer(), direct);
+    }
+
+    /**
+     * Copy the first `size` values of a vector into a new vector of `capacity` and free the old one
+     */
+    LongBuffer resize(LongBuffer vector, int size, int capacity) {
+        LongBuffer values = vector.duplicate();
+        ((Buffer) values).position(0).limit(size);
+        LongBuffer resized = allocateLongs(capacity);
+        resized.put(values);
+        ((Buffer) resized).clear();
+        release(vector);
+        return resized;
+    }
+
+    IntBuffer resize(IntBuffer vector, int size, int capacity) {
+        IntBuffer values = vector.duplicate();
+        ((Buffer) values).position(0).limit(size);
+        IntBuffer resized = allocateInts(capacity);
+        resized.put(values);
+        ((Buffer) resized).clear();
+        release(vector);
+        return resized;
+    }
+
+    DoubleBuffer resize(DoubleBuffer vector, int size, int capacity) {
+        DoubleBuffer values = vector.duplicate();
+        ((Buffer) values).position(0).limit(size);
+        DoubleBuffer resized = allocateDoubles(capacity);
+        resized.put(values);
+        ((Buffer) resized).clear();
+        release(vector);
+        return resized;
+    }
+
+    /**
+     * Fail if the vectors have been freed already.
+     */
+    void checkOpen() {
+        if (closed)
+            throw new TableSchemaException("ColumnarTable is closed");
+    }
+
+    /**
+     * Free all direct ByteBuffers. Heap vectors are left to the garbage collector.
+     */
+    @Override
+    public void close() {
+        if (closed)
+            return;
+        closed = true;
+        for (ByteBuffer direct : directBuffers.values()) {
+            ByteBufferUtil.free(direct);
+        }
+        directBuffers.clear();
+    }
+
+    /**
+     * Returns the size in bytes of a vector of `capacity` values, failing if a ByteBuffer can't be that large
+     */
+    private static int byteSize(int capacity, int bytesPerValue) {
+        try {
+            return Math.multiplyExact(capacity, bytesPerValue);
+        } catch (ArithmeticException ex) {
+            throw new TableSchemaException("Column of " + capacity + " values is too large for a direct ByteBuffer");
+        }
+    }
+
+    private ByteBuffer allocateDirect(int bytes) {
+        return ByteBuffer.allocateDirect(bytes).order(ByteOrder.nativeOrder());
+    }
+
+    private <B extends Buffer> B register(B vector, ByteBuffer direct) {
+        directBuffers.put(vector, direct);
+        return vector;
+    }
+
+    /**
+     * Free a vector that is no longer used
+     */
+    void release(Buffer vector) {
+        ByteBuffer direct = directBuffers.remove(vector);
+        if (null != direct)
+            ByteBufferUtil.free(direct);
+    }
+}
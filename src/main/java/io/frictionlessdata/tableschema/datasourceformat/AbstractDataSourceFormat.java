@@ -2,7 +2,10 @@ package io.frictionlessdata.tableschema.datasourceformat;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.Reader;
 import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -13,6 +16,7 @@ import java.util.List;
 public abstract class AbstractDataSourceFormat implements DataSourceFormat {
     String[] headers;
     Object dataSource = null;
+    int passCount = 0;
     private File workDir;
 
     AbstractDataSourceFormat(){}
@@ -38,9 +42,40 @@ public abstract class AbstractDataSourceFormat implements DataSourceFormat {
         return data;
     }
 
+    @Override
+    public int getPassCount() {
+        return passCount;
+    }
+
+    @Override
+    public long getFileSize() {
+        if (!(dataSource instanceof File))
+            return -1;
+        try {
+            Path path = getLocalFilePath(((File)dataSource).getPath());
+            return (null != path) ? Files.size(path) : -1;
+        } catch (IOException ex) {
+            return -1;
+        }
+    }
+
 
     String getFileContents(String path) throws IOException {
         return DataSourceFormat.getFileContents(path, workDir);
     }
 
+    Reader getFileReader(String path) throws IOException {
+        return DataSourceFormat.getFileReader(path, workDir);
+    }
+
+    /**
+     * Resolve the path to a file on the local file system, or return null if the data
+     * is read from a ZIP archive and therefore cannot be accessed directly.
+     */
+    Path getLocalFilePath(String path) throws IOException {
+        if ((null == workDir) || workDir.getName().endsWith(".zip"))
+            return null;
+        return DataSourceFormat.toSecure(new File(path).toPath(), workDir.toPath());
+    }
+
 }
@@ -0,0 +1,117 @@
+package io.frictionlessdata.tableschema.datasourceformat;
+
+import com.google.common.collect.Iterators;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+
+/**
+ * A byte range of a local CSV file that starts and ends on a record boundary. Chunks
+ * are created by {@link CsvDataSourceFormat#split(int)} and can be parsed independently
+ * of each other, for example on different threads.
+ */
+public class CsvChunk {
+    private final Path file;
+    private final long start;
+    private final long end;
+    private final String[] headers;
+    private final CSVFormat format;
+
+    CsvChunk(Path file, long start, long end, String[] headers, CSVFormat format) {
+        this.file = file;
+        this.start = start;
+        this.end = end;
+        this.headers = headers;
+        this.format = format;
+    }
+
+    /**
+     * Opens the chunk for reading. The returned source holds the headers of the whole
+     * file and the data rows of this chunk.
+     * @return the opened chunk. Must be closed if not read to the end.
+     * @throws IOException if the file cannot be read
+     */
+    public OpenedSource open() throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        CSVParser parser;
+        try {
+            channel.position(start);
+            InputStream is = new BoundedInputStream(Channels.newInputStream(channel), end - start);
+            Reader reader = new BufferedReader(new InputStreamReader(is, StandardCharsets.UTF_8));
+            parser = new CSVParser(reader, format);
+        } catch (IOException ex) {
+            channel.close();
+            throw ex;
+        }
+        Iterator<String[]> rowIterator = Iterators.transform(
+                new CsvDataSourceFormat.ClosingRecordIterator(parser), CsvDataSourceFormat::toRow);
+        return new OpenedSource(headers, rowIterator, parser);
+    }
+
+    /**
+     * @return offset of the first byte of this chunk in the file
+     */
+    public long getStart() {
+        return start;
+    }
+
+    /**
+     * @return offset of the first byte after this chunk
+     */
+    public long getEnd() {
+        return end;
+    }
+
+    public long getLength() {
+        return end - start;
+    }
+
+    /**
+     * Reads no more than a fixed number of bytes from the wrapped stream.
+     */
+    private static class BoundedInputStream extends InputStream {
+        private final InputStream in;
+        private long remaining;
+
+        BoundedInputStream(InputStream in, long length) {
+            this.in = in;
+            this.remaining = length;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (remaining <= 0)
+                return -1;
+            int b = in.read();
+            if (b >= 0)
+                remaining--;
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (remaining <= 0)
+                return -1;
+            int read = in.read(b, off, (int) Math.min(len, remaining));
+            if (read > 0)
+                remaining -= read;
+            return read;
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+}
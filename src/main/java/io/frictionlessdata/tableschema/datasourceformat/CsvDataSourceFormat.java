@@ -2,6 +2,7 @@ package io.frictionlessdata.tableschema.datasourceformat;
 
 import com.google.common.collect.Iterators;
 import io.frictionlessdata.tableschema.exception.TableSchemaException;
+import io.frictionlessdata.tableschema.inputstream.ByteOrderMarkStrippingInputStream;
 import io.frictionlessdata.tableschema.util.JsonUtil;
 import org.apache.commons.csv.CSVFormat;
 import org.apache.commons.csv.CSVParser;
@@ -9,10 +10,14 @@ import org.apache.commons.csv.CSVRecord;
 
 import java.io.BufferedReader;
 import java.io.File;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.Reader;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
@@ -23,6 +28,13 @@ import java.util.stream.Collectors;
  *
  */
 public class CsvDataSourceFormat extends AbstractDataSourceFormat {
+    private static final int STATE_FIELD_START = 0;
+    private static final int STATE_UNQUOTED = 1;
+    private static final int STATE_QUOTED = 2;
+    private static final int STATE_QUOTE_IN_QUOTED = 3;
+    private static final int STATE_ESCAPED = 4;
+    private static final int STATE_ESCAPED_UNQUOTED = 5;
+    private static final int SCAN_BUFFER_SIZE = 64 * 1024;
 
     private CSVFormat format = DataSourceFormat.getDefaultCsvFormat();
 
@@ -63,6 +75,8 @@ public class CsvDataSourceFormat extends AbstractDataSourceFormat {
 
     public CsvDataSourceFormat setFormat(CSVFormat format) {
         this.format = format;
+        // headers might be parsed differently with the new format
+        this.headers = null;
         return this;
     }
 
@@ -75,37 +89,96 @@ public class CsvDataSourceFormat extends AbstractDataSourceFormat {
 
     @Override
     public Iterator<String[]> iterator() throws Exception{
-        Iterator<CSVRecord> iterCSVRecords = this.getCSVParser().iterator();
+        return open().getRowIterator();
+    }
 
-        return Iterators.transform(iterCSVRecords, (CSVRecord input) -> {
-            Iterator<String> iterCols = input.iterator();
+    /**
+     * Opens a CSVParser and reads both headers and data rows from it. If the
+     * headers were not known before, they are cached, so getting the headers and
+     * iterating the rows only takes one pass over the data.
+     * @return the opened source
+     * @throws Exception if either the data has the wrong format or some I/O exception occurs
+     */
+    @Override
+    public OpenedSource open() throws Exception {
+        if (MappedCsvReader.supports(getFormat())) {
+            Path path = getUtf8LocalPath();
+            if (null != path)
+                return openMapped(path);
+        }
+        CSVParser parser = this.getCSVParser();
+        if (null == headers) {
+            headers = extractHeaders(parser);
+        }
+        Iterator<String[]> rowIterator
+                = Iterators.transform(new ClosingRecordIterator(parser), CsvDataSourceFormat::toRow);
+        return new OpenedSource(headers, rowIterator, parser);
+    }
 
-            List<String> cols = new ArrayList<>();
-            while(iterCols.hasNext()){
-                cols.add(iterCols.next());
+    /**
+     * Reads a local UTF-8 file from a memory mapping instead of through a CSVParser. The first record
+     * is skipped the same way the CSVParser would skip it. If the headers are not known yet, the text
+     * of the first record is handed to a CSVParser, so they come out exactly as without the mapping.
+     */
+    private OpenedSource openMapped(Path path) throws Exception {
+        CSVFormat format = getFormat();
+        passCount++;
+        MappedCsvReader reader = new MappedCsvReader(path, format);
+        try {
+            String[] declaredHeader = format.getHeader();
+            boolean skipFirstRecord = (null != declaredHeader)
+                    && ((declaredHeader.length == 0) || format.getSkipHeaderRecord());
+            if (null == headers) {
+                String headerText = (skipFirstRecord && reader.nextRecord()) ? reader.getRecordText() : "";
+                try (CSVParser parser = CSVParser.parse(headerText, format)) {
+                    headers = extractHeaders(parser);
+                }
+            } else if (skipFirstRecord) {
+                reader.nextRecord();
             }
+        } catch (Exception ex) {
+            reader.close();
+            throw ex;
+        }
+        MappedCsvReader.RecordIterator rowIterator = reader.rowIterator();
+        return new OpenedSource(headers, rowIterator, reader, rowIterator::project);
+    }
 
-            return cols.toArray(new String[0]);
-        });
+    static String[] toRow(CSVRecord input) {
+        Iterator<String> iterCols = input.iterator();
+
+        List<String> cols = new ArrayList<>();
+        while(iterCols.hasNext()){
+            cols.add(iterCols.next());
+        }
+
+        return cols.toArray(new String[0]);
     }
 
     @Override
     public String[] getHeaders() throws Exception{
         if (null == headers) {
-            // Get a copy of the header map that iterates in column order.
-            // The map keys are column names. The map values are 0-based indices.
-            Map<String, Integer> headerMap = this.getCSVParser().getHeaderMap();
+            // Only the header row gets parsed, the parser is closed right after.
+            try (CSVParser parser = this.getCSVParser()) {
+                headers = extractHeaders(parser);
+            }
+        }
+        return headers;
+    }
 
-            // Generate list of keys
-            List<String> headerVals = new ArrayList<>();
+    private static String[] extractHeaders(CSVParser parser) {
+        // Get a copy of the header map that iterates in column order.
+        // The map keys are column names. The map values are 0-based indices.
+        Map<String, Integer> headerMap = parser.getHeaderMap();
 
-            headerMap.entrySet().forEach((pair) -> {
-                headerVals.add(pair.getKey());
-            });
+        // Generate list of keys
+        List<String> headerVals = new ArrayList<>();
 
-            headers = headerVals.toArray(new String[0]);
-        }
-        return headers;
+        headerMap.entrySet().forEach((pair) -> {
+            headerVals.add(pair.getKey());
+        });
+
+        return headerVals.toArray(new String[0]);
     }
 
     /**
@@ -115,11 +188,15 @@ public class CsvDataSourceFormat extends AbstractDataSourceFormat {
      * needs to be recreated every time:
      * https://commons.apache.org/proper/commons-csv/apidocs/index.html?org/apache/commons/csv/CSVParser.html
      *
+     * For File-based sources, the parser reads from a {@link java.io.Reader} on the file, so
+     * memory consumption does not depend on the file size. Callers must close the parser.
+     *
      * @return a CSVParser instance
      * @throws Exception if either the data has the wrong format or some I/O exception occurs
      */
     private CSVParser getCSVParser() throws Exception{
         CSVFormat format = getFormat();
+        passCount++;
 
         if (dataSource instanceof String){
             return CSVParser.parse((String)dataSource, format);
@@ -132,11 +209,13 @@ public class CsvDataSourceFormat extends AbstractDataSourceFormat {
             //    - https://github.com/frictionlessdata/tableschema-java/issues/29
             //    - https://frictionlessdata.io/specs/data-resource/#url-or-path
 
-            String lines = getFileContents(((File)dataSource).getPath());
-
-            // Get the parser.
-            //return CSVFormat.RFC4180.withHeader().parse(fr);
-            return CSVParser.parse(lines, format);
+            Reader reader = getFileReader(((File)dataSource).getPath());
+            try {
+                return new CSVParser(reader, format);
+            } catch (Exception ex) {
+                reader.close();
+                throw ex;
+            }
 
         } else if(dataSource instanceof URL){
             return CSVParser.parse((URL)dataSource, StandardCharsets.UTF_8, format);
@@ -147,6 +226,183 @@ public class CsvDataSourceFormat extends AbstractDataSourceFormat {
     }
 
 
+    /**
+     * Local CSV files that are neither inside a ZIP archive nor encoded in UTF-16 or UTF-32 can be split into
+     * chunks with {@link #split(int)}. The CSVFormat must use single-byte delimiter, quote and escape
+     * characters and must not allow comment lines.
+     * @return true if the data can be split into chunks
+     */
+    public boolean isSplittable() {
+        return hasSingleByteSyntax(getFormat()) && (null != getUtf8LocalPath());
+    }
+
+    /**
+     * Whether delimiter, quote and escape character are single bytes in UTF-8 and there are no comment lines.
+     */
+    static boolean hasSingleByteSyntax(CSVFormat format) {
+        String delimiter = format.getDelimiterString();
+        return (null == format.getCommentMarker())
+                && (delimiter.length() == 1)
+                && isSingleByte(delimiter.charAt(0))
+                && isSingleByte(format.getQuoteCharacter())
+                && isSingleByte(format.getEscapeCharacter());
+    }
+
+    /**
+     * Returns the path of a local UTF-8 encoded data file outside a ZIP archive, null for all other data sources.
+     */
+    private Path getUtf8LocalPath() {
+        if (!(dataSource instanceof File))
+            return null;
+        try {
+            Path path = getLocalFilePath(((File)dataSource).getPath());
+            if (null == path)
+                return null;
+            try (ByteOrderMarkStrippingInputStream is = new ByteOrderMarkStrippingInputStream(Files.newInputStream(path))) {
+                return StandardCharsets.UTF_8.equals(is.getCharset()) ? path : null;
+            }
+        } catch (IOException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * Get the size of the data file in bytes. Only available if the data can be split into chunks.
+     * @return the file size
+     * @throws Exception if the data cannot be split or some I/O exception occurs
+     */
+    public long getDataLength() throws Exception {
+        if (!isSplittable())
+            throw new TableSchemaException("Data source cannot be split into chunks");
+        return Files.size(getLocalFilePath(((File)dataSource).getPath()));
+    }
+
+    /**
+     * Split the data into at most `chunkCount` chunks of roughly equal size in bytes. Chunks start and end
+     * on record boundaries, also if quoted values contain line breaks. The header record is not part of
+     * any chunk.
+     *
+     * Finding the boundaries takes one sequential scan over the bytes of the file, but no parsing.
+     * @param chunkCount the desired number of chunks
+     * @return the chunks in file order. Empty if the file contains no data rows
+     * @throws Exception if the data cannot be split or some I/O exception occurs
+     */
+    public List<CsvChunk> split(int chunkCount) throws Exception {
+        if (chunkCount < 1)
+            throw new IllegalArgumentException("Chunk count must be at least 1");
+        if (!isSplittable())
+            throw new TableSchemaException("Data source cannot be split into chunks");
+        CSVFormat format = getFormat();
+        String[] headers = getHeaders();
+        Path path = getLocalFilePath(((File)dataSource).getPath());
+        // the first record is the header, unless the header is declared in the format and
+        // not to be skipped in the data
+        String[] declaredHeader = format.getHeader();
+        boolean skipFirstRecord = (null != declaredHeader)
+                && ((declaredHeader.length == 0) || format.getSkipHeaderRecord());
+        List<Long> boundaries = findChunkBoundaries(path, format, skipFirstRecord, chunkCount);
+
+        CSVFormat chunkFormat = format.withHeader((String[])null).withSkipHeaderRecord(false);
+        List<CsvChunk> chunks = new ArrayList<>();
+        for (int i = 0; i < boundaries.size() - 1; i++) {
+            chunks.add(new CsvChunk(path, boundaries.get(i), boundaries.get(i + 1), headers, chunkFormat));
+        }
+        return chunks;
+    }
+
+    /**
+     * Scan the raw bytes of a UTF-8 encoded CSV file for the ends of records. As UTF-8 never uses ASCII
+     * values inside multibyte sequences, delimiter, quote, escape and line feed can be detected
+     * without decoding. The scan stops as soon as the last boundary is found.
+     *
+     * @return the start of the first chunk, the boundaries between chunks and the file length
+     */
+    private static List<Long> findChunkBoundaries(Path path, CSVFormat format, boolean skipFirstRecord, int chunkCount)
+            throws IOException {
+        long fileLength = Files.size(path);
+        int delimiter = format.getDelimiterString().charAt(0);
+        int quote = (null != format.getQuoteCharacter()) ? format.getQuoteCharacter() : -1;
+        int escape = (null != format.getEscapeCharacter()) ? format.getEscapeCharacter() : -1;
+        boolean ignoreSpaces = format.getIgnoreSurroundingSpaces();
+
+        List<Long> boundaries = new ArrayList<>();
+        long chunkSize = 0;
+        try (ByteOrderMarkStrippingInputStream bis = new ByteOrderMarkStrippingInputStream(Files.newInputStream(path))) {
+            long pos = bis.getBOM().getBytes().length;
+            InputStream in = bis.skipBOM();
+            if (!skipFirstRecord) {
+                boundaries.add(pos);
+                chunkSize = Math.max(1, (fileLength - pos) / chunkCount);
+            }
+            int state = STATE_FIELD_START;
+            byte[] buffer = new byte[SCAN_BUFFER_SIZE];
+            int read;
+            scan:
+            while ((read = in.read(buffer)) > 0) {
+                for (int i = 0; i < read; i++, pos++) {
+                    int b = buffer[i] & 0xFF;
+                    boolean recordEnd = false;
+                    switch (state) {
+                        case STATE_QUOTED:
+                            if (b == escape) {
+                                state = STATE_ESCAPED;
+                            } else if (b == quote) {
+                                state = STATE_QUOTE_IN_QUOTED;
+                            }
+                            continue;
+                        case STATE_ESCAPED:
+                            state = STATE_QUOTED;
+                            continue;
+                        case STATE_ESCAPED_UNQUOTED:
+                            state = STATE_UNQUOTED;
+                            continue;
+                        case STATE_QUOTE_IN_QUOTED:
+                            // a doubled quote is a literal quote inside the quoted value
+                            if (b == quote) {
+                                state = STATE_QUOTED;
+                                continue;
+                            }
+                            // fall through, the value has ended
+                        default:
+                            if (b == escape) {
+                                state = STATE_ESCAPED_UNQUOTED;
+                            } else if (b == '\n') {
+                                recordEnd = true;
+                                state = STATE_FIELD_START;
+                            } else if (b == delimiter) {
+                                state = STATE_FIELD_START;
+                            } else if ((state == STATE_FIELD_START) && (b == quote)) {
+                                state = STATE_QUOTED;
+                            } else if ((state != STATE_FIELD_START) || !ignoreSpaces || ((b != ' ') && (b != '\t'))) {
+                                state = STATE_UNQUOTED;
+                            }
+                    }
+                    if (!recordEnd)
+                        continue;
+                    long boundary = pos + 1;
+                    if (boundaries.isEmpty()) {
+                        // end of the header record
+                        boundaries.add(boundary);
+                        chunkSize = Math.max(1, (fileLength - boundary) / chunkCount);
+                    } else if (boundary >= boundaries.get(0) + chunkSize * boundaries.size()) {
+                        if (boundary < fileLength)
+                            boundaries.add(boundary);
+                        if (boundaries.size() == chunkCount)
+                            break scan;
+                    }
+                }
+            }
+        }
+        if (boundaries.isEmpty() || (boundaries.get(0) >= fileLength))
+            return new ArrayList<>();
+        boundaries.add(fileLength);
+        return boundaries;
+    }
+
+    private static boolean isSingleByte(Character c) {
+        return (null == c) || (c < 0x80);
+    }
+
     @Override
     public boolean hasReliableHeaders() {
         try {
@@ -155,4 +411,36 @@ public class CsvDataSourceFormat extends AbstractDataSourceFormat {
             return false;
         }
     }
+
+    /**
+     * Iterator over the records of a CSVParser that closes the parser, and
+     * therefore the underlying file, once the last record has been read.
+     */
+    static class ClosingRecordIterator implements Iterator<CSVRecord> {
+        private final CSVParser parser;
+        private final Iterator<CSVRecord> wrappedIterator;
+
+        ClosingRecordIterator(CSVParser parser) {
+            this.parser = parser;
+            this.wrappedIterator = parser.iterator();
+        }
+
+        @Override
+        public boolean hasNext() {
+            boolean hasNext = wrappedIterator.hasNext();
+            if (!hasNext) {
+                try {
+                    parser.close();
+                } catch (IOException ex) {
+                    throw new TableSchemaException(ex);
+                }
+            }
+            return hasNext;
+        }
+
+        @Override
+        public CSVRecord next() {
+            return wrappedIterator.next();
+        }
+    }
 }
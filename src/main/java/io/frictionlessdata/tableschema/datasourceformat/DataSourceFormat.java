@@ -38,6 +38,37 @@ public interface DataSourceFormat {
      */
     String[] getHeaders() throws Exception;
 
+    /**
+     * Opens the data for one read pass, returning both headers and data rows from
+     * the same parse. After this call, {@link #getHeaders()} returns cached headers.
+     * The default implementation takes headers and rows from {@link #getHeaders()} and {@link #iterator()},
+     * which may read the data twice.
+     * @return the opened source, which should be closed if its rows are not read to the end
+     * @throws Exception thrown if reading the data fails
+     */
+    default OpenedSource open() throws Exception {
+        return new OpenedSource(getHeaders(), iterator(), null);
+    }
+
+    /**
+     * Returns the number of times the underlying data has been physically read and parsed
+     * since this DataSourceFormat was created. Useful to check how many passes over a
+     * (potentially large) file an operation took. Implementations that don't count passes return -1.
+     * @return number of passes over the data, or -1 if unknown
+     */
+    default int getPassCount() {
+        return -1;
+    }
+
+    /**
+     * Returns the size in bytes of the file the data is read from, e.g. to estimate the number of rows
+     * from. Implementations that don't read from a local file return -1.
+     * @return size of the data file in bytes, or -1 if unknown
+     */
+    default long getFileSize() {
+        return -1;
+    }
+
     /**
      * Returns the whole data as a List of String arrays, each List entry is one row
      * @return List containing the data
@@ -74,8 +105,20 @@ public interface DataSourceFormat {
      * @return DataSource created from input File
      */
     static DataSourceFormat createDataSourceFormat(File input, File workDir) throws IOException {
-        String content = getFileContents(input.getPath(), workDir);
-        return createDataSourceFormat(content);
+        // Both formats stream the file on each pass, so only the start of the file is read here:
+        // the first character, and if that opens an array, the first JSON object. A CSV
+        // header starting with a '[' fails the second check and is read as CSV
+        try (Reader rdr = getFileReader(input.getPath(), workDir)) {
+            if (!startsWithJsonArray(rdr)) {
+                return new CsvDataSourceFormat(input, workDir);
+            }
+        }
+        try (Reader rdr = getFileReader(input.getPath(), workDir)) {
+            if (JsonArrayDataSourceFormat.startsWithJsonObject(rdr)) {
+                return new JsonArrayDataSourceFormat(input, workDir);
+            }
+        }
+        return new CsvDataSourceFormat(input, workDir);
     }
 
     static String getFileContents(String path, File workDir) throws IOException {
@@ -121,6 +164,72 @@ public interface DataSourceFormat {
         return content;
     }
 
+    /**
+     * Open a {@link java.io.Reader} on a file relative to `workDir`, or on an entry of `workDir` if
+     * that is a ZIP archive. Contrary to {@link #getFileContents(String, File)}, nothing is read up front, so
+     * this can be used for streaming files of arbitrary size. A BOM is stripped and used to determine the
+     * charset, as in {@link #readSkippingBOM(InputStream)}. Closing the Reader closes the file or archive.
+     * @param path relative path of the file, or the entry name in a ZIP archive
+     * @param workDir base directory or ZIP archive
+     * @return Reader on the file contents
+     * @throws IOException if the file cannot be opened
+     */
+    static Reader getFileReader(String path, File workDir) throws IOException {
+        if (workDir.getName().endsWith(".zip")) {
+            //have to exchange the backslashes on Windows, as
+            //zip paths are forward slashed.
+            if (File.separator.equals("\\"))
+                path = path.replaceAll("\\\\", "/");
+            ZipFile zipFile = new ZipFile(workDir.getAbsolutePath());
+            ZipEntry entry = zipFile.getEntry(path);
+            if (null == entry) {
+                zipFile.close();
+                throw new FileNotFoundException(workDir.getAbsolutePath() + File.separator + path);
+            }
+            InputStream stream = new FilterInputStream(zipFile.getInputStream(entry)) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        zipFile.close();
+                    }
+                }
+            };
+            return getReaderSkippingBOM(stream);
+        } else {
+            Path resolvedPath = DataSourceFormat.toSecure(new File(path).toPath(), workDir.toPath());
+            return getReaderSkippingBOM(new FileInputStream(resolvedPath.toFile()));
+        }
+    }
+
+    /**
+     * Wrap an {@link java.io.InputStream} into a buffered {@link java.io.Reader} that strips the BOM if found
+     * and uses it to determine the charset.
+     * @param is InputStream to read from
+     * @return Reader on the contents of the InputStream
+     * @throws IOException if underlying InputStream throws
+     */
+    static Reader getReaderSkippingBOM(InputStream is) throws IOException {
+        ByteOrderMarkStrippingInputStream bims  = new ByteOrderMarkStrippingInputStream(is);
+        return new BufferedReader(new InputStreamReader(bims.skipBOM(), bims.getCharset()));
+    }
+
+    /**
+     * Peek at the first non-whitespace character of a Reader to decide whether the content might be a JSON array.
+     * Consumes the leading part of the Reader.
+     * @param rdr the Reader to test
+     * @return true if the first non-whitespace character is `[`
+     * @throws IOException if reading fails
+     */
+    static boolean startsWithJsonArray(Reader rdr) throws IOException {
+        int c = rdr.read();
+        while ((c != -1) && Character.isWhitespace(c)) {
+            c = rdr.read();
+        }
+        return (c == '[');
+    }
+
     static CSVFormat getDefaultCsvFormat() {
         return CSVFormat.RFC4180
                 .withHeader()
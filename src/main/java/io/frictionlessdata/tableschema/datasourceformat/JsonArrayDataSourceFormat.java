@@ -1,6 +1,8 @@
 package io.frictionlessdata.tableschema.datasourceformat;
 
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.Module;
@@ -11,12 +13,11 @@ import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.dataformat.csv.CsvMapper;
 import com.google.common.collect.Iterators;
+import io.frictionlessdata.tableschema.exception.JsonParsingException;
+import io.frictionlessdata.tableschema.exception.TableSchemaException;
 import io.frictionlessdata.tableschema.util.JsonUtil;
 
-import java.io.BufferedReader;
-import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
+import java.io.*;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -25,10 +26,15 @@ import java.util.stream.Collectors;
  *
  */
 public class JsonArrayDataSourceFormat extends AbstractDataSourceFormat {
+    private static final int DEFAULT_HEADER_LOOKAHEAD = 1000;
+
+    private String[] declaredHeaders = null;
+    private int headerLookahead = DEFAULT_HEADER_LOOKAHEAD;
 
     public JsonArrayDataSourceFormat(String json){
         super();
         this.dataSource = JsonUtil.getInstance().createArrayNode(DataSourceFormat.trimBOM(json));
+        this.passCount++;
     }
 
     public JsonArrayDataSourceFormat (InputStream inStream) throws IOException {
@@ -36,42 +42,133 @@ public class JsonArrayDataSourceFormat extends AbstractDataSourceFormat {
         BufferedReader br = new BufferedReader(inputStreamReader)) {
             String content = br.lines().collect(Collectors.joining("\n"));
             this.dataSource = JsonUtil.getInstance().createArrayNode(DataSourceFormat.trimBOM(content));
+            this.passCount++;
         }
     }
 
+    /**
+     * Constructor for streaming a JSON array from a File. In contrast to the String- and InputStream-based
+     * constructors, this one does not read the data into memory, but parses it one JSON object at a time
+     * on every pass, so memory consumption is proportional to one record.
+     *
+     * Headers are either the ones set via {@link #setDeclaredHeaders(String[])} (a {@link io.frictionlessdata.tableschema.Table}
+     * does this with the field names of its Schema) or the union of keys in the first `headerLookahead` objects.
+     * @param dataSource relative path of the JSON file
+     * @param workDir base directory or ZIP archive the path is resolved against
+     */
+    public JsonArrayDataSourceFormat(File dataSource, File workDir) {
+        super(dataSource, workDir);
+    }
+
     @Override
     public boolean hasReliableHeaders() {
         return false;
     }
 
+    /**
+     * Set the headers to use in streaming mode instead of looking ahead in the data. Ignored for
+     * in-memory data where the union of all keys is known.
+     * @param declaredHeaders header names, usually the field names of a Schema. Can be null.
+     * @return this instance
+     */
+    public JsonArrayDataSourceFormat setDeclaredHeaders(String[] declaredHeaders) {
+        this.declaredHeaders = declaredHeaders;
+        return this;
+    }
+
+    /**
+     * Set the number of JSON objects that are read to find the headers in streaming mode if
+     * no headers have been declared.
+     * @param headerLookahead number of objects to read, must be positive
+     * @return this instance
+     */
+    public JsonArrayDataSourceFormat setHeaderLookahead(int headerLookahead) {
+        if (headerLookahead < 1)
+            throw new IllegalArgumentException("Header lookahead must be positive");
+        this.headerLookahead = headerLookahead;
+        this.headers = null;
+        return this;
+    }
+
+    /**
+     * Signals whether this instance parses its data on each pass instead of holding it in memory.
+     * @return true if the data is streamed from a file
+     */
+    public boolean isStreaming() {
+        return (dataSource instanceof File);
+    }
+
 
 	@Override
 	public Iterator<String[]> iterator() {
+		if (isStreaming()) {
+			return openStreaming().getRowIterator();
+		}
 		String[] headers = getHeaders();
 
-		return Iterators.transform(((ArrayNode)dataSource).iterator(), (JsonNode input) -> {
-			List<String> values = new ArrayList<>();
-			for (String header : headers) {
-				JsonNode val = input.get(header);
-				if (null == val) {
-					values.add(null);
-				} else if ((val instanceof ObjectNode) || (val instanceof ArrayNode)) {
-					values.add(val.toString());
-				} else
-					values.add(val.asText(""));
-			}
+		return Iterators.transform(((ArrayNode)dataSource).iterator(), (JsonNode input) -> toRow(input, headers));
+	}
 
-			return values.toArray(new String[0]);
-		});
+	/**
+	 * In streaming mode, reads headers and rows in one pass: the lookahead window for the headers
+	 * is buffered and replayed before the remaining objects are streamed.
+	 * @return the opened source
+	 * @throws Exception if the file cannot be read or does not contain a JSON array
+	 */
+	@Override
+	public OpenedSource open() throws Exception {
+		if (!isStreaming()) {
+			return super.open();
+		}
+		return openStreaming();
+	}
+
+	private OpenedSource openStreaming() {
+		JsonObjectIterator objects = openObjectIterator();
+		try {
+			String[] headers = getStreamingHeaders(objects);
+			Iterator<String[]> rowIterator
+					= Iterators.transform(objects, (JsonNode input) -> toRow(input, headers));
+			return new OpenedSource(headers, rowIterator, objects);
+		} catch (RuntimeException ex) {
+			objects.close();
+			throw ex;
+		}
+	}
+
+	private static String[] toRow(JsonNode input, String[] headers) {
+		List<String> values = new ArrayList<>();
+		for (String header : headers) {
+			JsonNode val = input.get(header);
+			if (null == val) {
+				values.add(null);
+			} else if ((val instanceof ObjectNode) || (val instanceof ArrayNode)) {
+				values.add(val.toString());
+			} else
+				values.add(val.asText(""));
+		}
+
+		return values.toArray(new String[0]);
 	}
 
 	/**
 	 * This is a very costly operation that iterates through the whole data to find the headers. See
 	 * https://github.com/frictionlessdata/specs/issues/656#issuecomment-574386328 for the background: missing
 	 * (== null) entries in the first entry sets of a JSON Table could lead to us missing header names.
+	 * The result is cached, as the data doesn't change after construction.
 	 * @return the union of keys for each entry in the JSON array
 	 */
 	public String[] getHeaders() {
+		if (isStreaming()) {
+			if ((null == declaredHeaders) && (null == this.headers)) {
+				try (JsonObjectIterator objects = openObjectIterator()) {
+					return getStreamingHeaders(objects);
+				}
+			}
+			return (null != declaredHeaders) ? declaredHeaders : this.headers;
+		}
+		if (null != this.headers)
+			return this.headers;
 		Set<String> headers = new LinkedHashSet<>();
 		((ArrayNode)dataSource).elements().forEachRemaining((firstObject) -> {
 			Map<String, JsonNode> fields = new HashMap<>();
@@ -80,7 +177,133 @@ public class JsonArrayDataSourceFormat extends AbstractDataSourceFormat {
 				headers.add(f.getKey());
 			});
 		});
-		return headers.toArray(new String[]{});
+		this.headers = headers.toArray(new String[]{});
+		return this.headers;
+	}
+
+	/**
+	 * Headers in streaming mode: the declared headers if set, otherwise the union of keys of the
+	 * first `headerLookahead` objects, which get buffered in the iterator so they are not lost.
+	 */
+	private String[] getStreamingHeaders(JsonObjectIterator objects) {
+		if (null != declaredHeaders)
+			return declaredHeaders;
+		if (null == this.headers) {
+			Set<String> headers = new LinkedHashSet<>();
+			for (JsonNode object : objects.lookahead(headerLookahead)) {
+				object.fieldNames().forEachRemaining(headers::add);
+			}
+			this.headers = headers.toArray(new String[]{});
+		}
+		return this.headers;
+	}
+
+	/**
+	 * Checks whether the data read from `rdr` starts with a JSON array that is either empty or
+	 * starts with a well-formed JSON object. Only the first object is parsed.
+	 * @param rdr the Reader positioned at the start of the data
+	 * @return true if the data starts like a JSON array of JSON objects
+	 */
+	static boolean startsWithJsonObject(Reader rdr) {
+		try (JsonParser parser = JsonUtil.getInstance().createParser(rdr)) {
+			if (parser.nextToken() != JsonToken.START_ARRAY)
+				return false;
+			JsonToken token = parser.nextToken();
+			if (token == JsonToken.END_ARRAY)
+				return true;
+			if (token != JsonToken.START_OBJECT)
+				return false;
+			JsonUtil.getInstance().readValue(parser);
+			return true;
+		} catch (Exception ex) {
+			return false;
+		}
+	}
+
+	private JsonObjectIterator openObjectIterator() {
+		Reader reader;
+		try {
+			reader = getFileReader(((File)dataSource).getPath());
+		} catch (IOException ex) {
+			throw new TableSchemaException(ex);
+		}
+		passCount++;
+		return new JsonObjectIterator(JsonUtil.getInstance().createParser(reader));
+	}
+
+	/**
+	 * Iterator over the JSON objects in a JSON array, reading one object at a time from a
+	 * streaming parser. Closes the parser and the underlying file when the array end is reached.
+	 */
+	private static class JsonObjectIterator implements Iterator<JsonNode>, AutoCloseable {
+		private final JsonParser parser;
+		private final Deque<JsonNode> buffer = new ArrayDeque<>();
+		private boolean finished = false;
+
+		JsonObjectIterator(JsonParser parser) {
+			this.parser = parser;
+			try {
+				if (parser.nextToken() != JsonToken.START_ARRAY) {
+					throw new TableSchemaException("Data source is not a JSON array");
+				}
+			} catch (IOException | RuntimeException ex) {
+				try {
+					parser.close();
+				} catch (IOException closeEx) {
+					ex.addSuppressed(closeEx);
+				}
+				if (ex instanceof RuntimeException)
+					throw (RuntimeException)ex;
+				throw new JsonParsingException(ex);
+			}
+		}
+
+		/**
+		 * Read up to `count` objects ahead without consuming them.
+		 * @return the buffered objects
+		 */
+		Collection<JsonNode> lookahead(int count) {
+			while ((buffer.size() < count) && readNext()) {}
+			return buffer;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return !buffer.isEmpty() || readNext();
+		}
+
+		@Override
+		public JsonNode next() {
+			if (!hasNext())
+				throw new NoSuchElementException();
+			return buffer.poll();
+		}
+
+		private boolean readNext() {
+			if (finished)
+				return false;
+			try {
+				JsonToken token = parser.nextToken();
+				if ((null == token) || (token == JsonToken.END_ARRAY)) {
+					close();
+					return false;
+				}
+				buffer.add(JsonUtil.getInstance().readValue(parser));
+				return true;
+			} catch (IOException ex) {
+				throw new JsonParsingException(ex);
+			}
+		}
+
+		@Override
+		public void close() {
+			finished = true;
+			try {
+				parser.close();
+			} catch (IOException ex) {
+				throw new JsonParsingException(ex);
+			}
+		}
 	}
 
 	private CsvMapper getCsvMapper() {
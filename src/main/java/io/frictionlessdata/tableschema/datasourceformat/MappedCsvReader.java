@@ -0,0 +1,394 @@
+package io.frictionlessdata.tableschema.datasourceformat;
+
+import io.frictionlessdata.tableschema.exception.TableSchemaException;
+import io.frictionlessdata.tableschema.util.ByteBufferUtil;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.QuoteMode;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads the records of a local UTF-8 encoded CSV file from a memory mapping of the file, without copying
+ * the data through streams, readers and a CSVParser. Delimiters, quotes and line breaks are found on the
+ * raw bytes, the same way the CSVParser finds them for the formats this reader {@link #supports(CSVFormat)}.
+ * A record is held as the byte ranges of its values, and values are only decoded to Strings when asked for.
+ *
+ * Files larger than 2GB are mapped in several segments. Closing the reader unmaps the file.
+ */
+class MappedCsvReader implements AutoCloseable {
+    static final int DEFAULT_SEGMENT_SHIFT = 30;
+    private static final int EOF = -1;
+    private static final int FLAG_QUOTED = 1;
+    private static final int FLAG_DOUBLED_QUOTES = 2;
+    private static final int FLAG_TRIM_END = 4;
+
+    private final MappedByteBuffer[] segments;
+    private final int segmentShift;
+    private final long segmentMask;
+    private final long length;
+
+    private final int delimiter;
+    private final int quote;
+    private final String quoteString;
+    private final boolean ignoreSurroundingSpaces;
+    private final boolean ignoreEmptyLines;
+    private final boolean trim;
+
+    private long pos = 0;
+    private boolean atEnd = false;
+    private boolean closed = false;
+
+    // the current record
+    private long recordStart;
+    private long recordEnd;
+    private int fieldCount = 0;
+    private long[] fieldStarts = new long[16];
+    private long[] fieldEnds = new long[16];
+    private int[] fieldFlags = new int[16];
+    private byte[] scratch = new byte[256];
+
+    MappedCsvReader(Path path, CSVFormat format) throws IOException {
+        this(path, format, DEFAULT_SEGMENT_SHIFT);
+    }
+
+    MappedCsvReader(Path path, CSVFormat format, int segmentShift) throws IOException {
+        this.segmentShift = segmentShift;
+        this.segmentMask = (1L << segmentShift) - 1;
+        this.delimiter = format.getDelimiterString().charAt(0);
+        this.quote = (null != format.getQuoteCharacter()) ? format.getQuoteCharacter() : -2;
+        this.quoteString = (null != format.getQuoteCharacter()) ? format.getQuoteCharacter().toString() : null;
+        this.ignoreSurroundingSpaces = format.getIgnoreSurroundingSpaces();
+        this.ignoreEmptyLines = format.getIgnoreEmptyLines();
+        this.trim = format.getTrim();
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            this.length = channel.size();
+            this.segments = new MappedByteBuffer[(int) ((length + segmentMask) >>> segmentShift)];
+            try {
+                for (int i = 0; i < segments.length; i++) {
+                    long start = ((long) i) << segmentShift;
+                    segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(segmentMask + 1, length - start));
+                }
+            } catch (IOException ex) {
+                close();
+                throw ex;
+            }
+        }
+        // skip a UTF-8 byte order mark
+        if ((read(0) == 0xEF) && (read(1) == 0xBB) && (read(2) == 0xBF)) {
+            pos = 3;
+        }
+    }
+
+    /**
+     * The formats whose records can be found on the bytes of the file exactly like a CSVParser finds them:
+     * single-byte delimiter and quote character, no escape character, no comments, no null String
+     * and no trailing delimiter.
+     */
+    static boolean supports(CSVFormat format) {
+        QuoteMode quoteMode = format.getQuoteMode();
+        return CsvDataSourceFormat.hasSingleByteSyntax(format)
+                && (null == format.getEscapeCharacter())
+                && (null == format.getNullString())
+                && !format.getTrailingDelimiter()
+                && (quoteMode != QuoteMode.ALL_NON_NULL)
+                && (quoteMode != QuoteMode.NON_NUMERIC)
+                && !isLineBreak(format.getDelimiterString().charAt(0))
+                && ((null == format.getQuoteCharacter()) || !isLineBreak(format.getQuoteCharacter()));
+    }
+
+    /**
+     * Find the next record and the byte ranges of its values.
+     * @return false if there are no more records
+     */
+    boolean nextRecord() {
+        if (atEnd)
+            return false;
+        fieldCount = 0;
+        int c = read(pos);
+        if (ignoreEmptyLines) {
+            while (isLineBreak(c)) {
+                c = read(++pos);
+            }
+        }
+        if (c == EOF) {
+            atEnd = true;
+            return false;
+        }
+        recordStart = pos;
+        while (readField()) {
+            // next value of the same record
+        }
+        recordEnd = pos;
+        return true;
+    }
+
+    int getFieldCount() {
+        return fieldCount;
+    }
+
+    /**
+     * Decode the value at `index` of the current record.
+     */
+    String getString(int index) {
+        long start = fieldStarts[index];
+        long end = fieldEnds[index];
+        int flags = fieldFlags[index];
+        String value = (start == end) ? "" : decode(start, end);
+        if ((flags & FLAG_DOUBLED_QUOTES) != 0) {
+            value = value.replace(quoteString + quoteString, quoteString);
+        }
+        if ((flags & FLAG_TRIM_END) != 0) {
+            value = trimEnd(value);
+        }
+        return trim ? value.trim() : value;
+    }
+
+    /**
+     * Decode all values of the current record.
+     */
+    String[] getRecord() {
+        String[] record = new String[fieldCount];
+        for (int i = 0; i < fieldCount; i++) {
+            record[i] = getString(i);
+        }
+        return record;
+    }
+
+    /**
+     * Decode only the values of the current record at `columns`. The returned array has one entry per value
+     * of the record, the entries of all other values are null.
+     */
+    String[] getRecord(int[] columns) {
+        String[] record = new String[fieldCount];
+        for (int column : columns) {
+            if ((column >= 0) && (column < fieldCount))
+                record[column] = getString(column);
+        }
+        return record;
+    }
+
+    /**
+     * Returns the current record as it is written in the file, including its line break.
+     */
+    String getRecordText() {
+        return decode(recordStart, recordEnd);
+    }
+
+    /**
+     * Returns an Iterator over the remaining records that closes this reader once the last record
+     * has been read. All values are decoded unless the Iterator gets restricted to some columns
+     * via {@link RecordIterator#project(int[])}.
+     */
+    RecordIterator rowIterator() {
+        return new RecordIterator();
+    }
+
+    @Override
+    public void close() {
+        if (closed)
+            return;
+        closed = true;
+        for (int i = 0; i < segments.length; i++) {
+            if (null != segments[i])
+                ByteBufferUtil.free(segments[i]);
+        }
+        Arrays.fill(segments, null);
+    }
+
+    /**
+     * Read one value starting at `pos`, which is behind a delimiter or at the start of a record.
+     * @return true if the record continues after this value
+     */
+    private boolean readField() {
+        int c = read(pos);
+        if (ignoreSurroundingSpaces) {
+            int width;
+            while (!isLineBreak(c) && ((width = whitespaceWidth(pos, c)) > 0)) {
+                pos += width;
+                c = read(pos);
+            }
+        }
+        if (c == quote)
+            return readQuotedField();
+        long start = pos;
+        int flags = ignoreSurroundingSpaces ? FLAG_TRIM_END : 0;
+        while (true) {
+            if (c == delimiter) {
+                addField(start, pos, flags);
+                pos++;
+                return true;
+            }
+            if (isLineBreak(c)) {
+                addField(start, pos, flags);
+                skipLineBreak(c);
+                return false;
+            }
+            if (c == EOF) {
+                addField(start, pos, flags);
+                atEnd = true;
+                return false;
+            }
+            c = read(++pos);
+        }
+    }
+
+    private boolean readQuotedField() {
+        long start = ++pos;
+        int flags = FLAG_QUOTED;
+        while (true) {
+            int c = read(pos);
+            if (c == EOF) {
+                throw new TableSchemaException("(offset " + (start - 1) + ") EOF reached before encapsulated token finished");
+            }
+            if (c != quote) {
+                pos++;
+                continue;
+            }
+            // a doubled quote is a literal quote inside the quoted value
+            if (read(pos + 1) == quote) {
+                flags |= FLAG_DOUBLED_QUOTES;
+                pos += 2;
+                continue;
+            }
+            long end = pos++;
+            // only whitespace may follow up to the delimiter or line break
+            while (true) {
+                c = read(pos);
+                if (c == delimiter) {
+                    addField(start, end, flags);
+                    pos++;
+                    return true;
+                }
+                if (c == EOF) {
+                    addField(start, end, flags);
+                    atEnd = true;
+                    return false;
+                }
+                if (isLineBreak(c)) {
+                    addField(start, end, flags);
+                    skipLineBreak(c);
+                    return false;
+                }
+                int width = whitespaceWidth(pos, c);
+                if (width == 0) {
+                    throw new TableSchemaException("(offset " + pos + ") invalid char between encapsulated token and delimiter");
+                }
+                pos += width;
+            }
+        }
+    }
+
+    private void addField(long start, long end, int flags) {
+        if (fieldCount == fieldStarts.length) {
+            fieldStarts = Arrays.copyOf(fieldStarts, fieldCount * 2);
+            fieldEnds = Arrays.copyOf(fieldEnds, fieldCount * 2);
+            fieldFlags = Arrays.copyOf(fieldFlags, fieldCount * 2);
+        }
+        fieldStarts[fieldCount] = start;
+        fieldEnds[fieldCount] = end;
+        fieldFlags[fieldCount] = flags;
+        fieldCount++;
+    }
+
+    // CR, LF and CR LF all end a record
+    private void skipLineBreak(int c) {
+        pos++;
+        if ((c == '\r') && (read(pos) == '\n'))
+            pos++;
+    }
+
+    /**
+     * Returns the number of bytes of the whitespace character at `p`, or 0 if it is no whitespace.
+     * Like the CSVParser, uses Character.isWhitespace() and never counts the delimiter as whitespace.
+     */
+    private int whitespaceWidth(long p, int c) {
+        if ((c == delimiter) || (c == EOF))
+            return 0;
+        if (c < 0x80)
+            return Character.isWhitespace(c) ? 1 : 0;
+        // non-ASCII whitespace characters are all encoded in three bytes
+        if ((c & 0xF0) != 0xE0)
+            return 0;
+        int c1 = read(p + 1);
+        int c2 = read(p + 2);
+        if ((c1 == EOF) || (c2 == EOF))
+            return 0;
+        int codePoint = ((c & 0x0F) << 12) | ((c1 & 0x3F) << 6) | (c2 & 0x3F);
+        return Character.isWhitespace(codePoint) ? 3 : 0;
+    }
+
+    private int read(long p) {
+        if (p >= length)
+            return EOF;
+        return segments[(int) (p >>> segmentShift)].get((int) (p & segmentMask)) & 0xFF;
+    }
+
+    private String decode(long start, long end) {
+        int byteCount = (int) (end - start);
+        if (byteCount > scratch.length) {
+            scratch = new byte[Math.max(byteCount, scratch.length * 2)];
+        }
+        for (int i = 0; i < byteCount; i++) {
+            scratch[i] = (byte) read(start + i);
+        }
+        return new String(scratch, 0, byteCount, StandardCharsets.UTF_8);
+    }
+
+    private static String trimEnd(String value) {
+        int end = value.length();
+        while ((end > 0) && Character.isWhitespace(value.charAt(end - 1))) {
+            end--;
+        }
+        return (end == value.length()) ? value : value.substring(0, end);
+    }
+
+    private static boolean isLineBreak(int c) {
+        return (c == '\n') || (c == '\r');
+    }
+
+    /**
+     * Iterator over the records that closes the reader, and therefore the
+     * mapping of the file, once the last record has been read.
+     */
+    class RecordIterator implements Iterator<String[]> {
+        private boolean fetched = false;
+        private boolean hasRecord = false;
+        private int[] columns = null;
+
+        /**
+         * Only decode the values at `columns` from now on, see {@link #getRecord(int[])}.
+         * @param columns the indexes of the values to decode, null to decode all values
+         */
+        void project(int[] columns) {
+            this.columns = columns;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (!fetched) {
+                hasRecord = !closed && nextRecord();
+                fetched = true;
+                if (!hasRecord)
+                    close();
+            }
+            return hasRecord;
+        }
+
+        @Override
+        public String[] next() {
+            if (!hasNext())
+                throw new NoSuchElementException();
+            fetched = false;
+            return (null == columns) ? getRecord() : getRecord(columns);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package io.frictionlessdata.tableschema.datasourceformat;
+
+import java.util.Iterator;
+import java.util.function.Consumer;
+
+/**
+ * One read pass over a {@link DataSourceFormat}. The headers and the data rows
+ * come from the same parse of the underlying data, so a consumer that needs both
+ * does not have to read the data twice.
+ *
+ * Closing the OpenedSource releases the underlying file or stream if the rows
+ * have not been read to the end.
+ */
+public class OpenedSource implements AutoCloseable {
+    private final String[] headers;
+    private final Iterator<String[]> rowIterator;
+    private final AutoCloseable resource;
+    private final Consumer<int[]> projector;
+
+    OpenedSource(String[] headers, Iterator<String[]> rowIterator, AutoCloseable resource) {
+        this(headers, rowIterator, resource, null);
+    }
+
+    OpenedSource(String[] headers, Iterator<String[]> rowIterator, AutoCloseable resource, Consumer<int[]> projector) {
+        this.headers = headers;
+        this.rowIterator = rowIterator;
+        this.resource = resource;
+        this.projector = projector;
+    }
+
+    /**
+     * Returns the headers as found in the data
+     * @return Column headers as a String array
+     */
+    public String[] getHeaders() {
+        return headers;
+    }
+
+    /**
+     * Returns an Iterator over the data rows of this pass. Can only be consumed once.
+     * @return Iterator over the data
+     */
+    public Iterator<String[]> getRowIterator() {
+        return rowIterator;
+    }
+
+    /**
+     * Tells the source that only the data columns at `columns` are needed. Sources that can skip
+     * columns while reading, like local CSV files, then leave the entries of all other columns
+     * in the returned rows null. Other sources ignore this and return complete rows.
+     * Must be called before reading the first row.
+     * @param columns indexes of the needed columns in the data rows
+     */
+    public void project(int[] columns) {
+        if (null != projector)
+            projector.accept(columns);
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (null != resource)
+            resource.close();
+    }
+}
@@ -7,6 +7,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
+import java.util.RandomAccess;
 
 /**
  *
@@ -34,6 +35,18 @@ public class StringArrayDataSourceFormat extends AbstractDataSourceFormat {
         return new ArrayList<>((Collection<String[]>)dataSource);
     }
 
+    /**
+     * Returns the rows for access by index. If the data was passed in as a List with fast
+     * random access, it is returned as it is, other Collections are copied.
+     * @return the data rows as a List
+     */
+    public List<String[]> getRows() {
+        Collection<String[]> data = (Collection<String[]>)dataSource;
+        if ((data instanceof List) && (data instanceof RandomAccess))
+            return (List<String[]>)data;
+        return new ArrayList<>(data);
+    }
+
     @Override
     public String[] getHeaders() throws Exception{
         return headers;
@@ -33,6 +33,11 @@ public class AnyField extends Field<Object> {
     }
 
 
+    @Override
+    public boolean matches(String value, String format, Map<String, Object> options) {
+        return true;
+    }
+
     @Override
     public String parseFormat(String value, Map<String, Object> options) {
         return "default";
@@ -35,6 +35,15 @@ public class ArrayField extends Field<Object[]> {
     }
 
 
+    @Override
+    public boolean matches(String value, String format, Map<String, Object> options) {
+        // JSON arrays, or a JSON null literal
+        int first = firstNonWhitespace(value);
+        if ((first != '[') && (first != 'n'))
+            return false;
+        return super.matches(value, format, options);
+    }
+
     @Override
     public String parseFormat(String value, Map<String, Object> options) {
         return "default";
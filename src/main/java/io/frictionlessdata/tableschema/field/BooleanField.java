@@ -84,6 +84,13 @@ public class BooleanField extends Field<Boolean> {
         return (value) ? trueValue : falseValue;
     }
 
+    @Override
+    public boolean matches(String value, String format, Map<String, Object> options) {
+        if (null == options)
+            return _getActualTrueValues().contains(value) || _getActualFalseValues().contains(value);
+        return super.matches(value, format, options);
+    }
+
     @Override
     public String parseFormat(String value, Map<String, Object> options) {
         return "default";
@@ -0,0 +1,102 @@
+package io.frictionlessdata.tableschema.field;
+
+import io.frictionlessdata.tableschema.exception.ConstraintsException;
+import io.frictionlessdata.tableschema.exception.InvalidCastException;
+
+import java.math.BigInteger;
+import java.net.URI;
+import java.util.Map;
+
+/**
+ * Integer field for the option `compactNumbers` set to `true`. Values are parsed to Long instead of
+ * BigInteger, and only values outside the range of a long fall back to BigInteger.
+ *
+ * {@link Field#fromJson(String)}, {@link Field#forType(String, String, Map)} and Schemas read from JSON
+ * create integer fields with this option as CompactIntegerFields, all other integer fields are
+ * {@link IntegerField}s.
+ */
+public class CompactIntegerField extends Field<Number> {
+    static final String NUMBER_OPTION_COMPACT = "compactNumbers";
+
+    CompactIntegerField() {
+        super();
+    }
+
+    public CompactIntegerField(String name, String format, String title, String description,
+                               URI rdfType, Map constraints, Map options) {
+        super(name, FIELD_TYPE_INTEGER, format, title, description, rdfType, constraints, options);
+    }
+
+    @Override
+    public Number parseValue(String value, String format, Map<String, Object> options) throws InvalidCastException, ConstraintsException {
+        return parseCompactInteger(value.trim());
+    }
+
+    @Override
+    public String formatValueAsString(Number value, String format, Map<String, Object> options) throws InvalidCastException, ConstraintsException {
+        if (null == value)
+            return null;
+        return value.toString();
+    }
+
+    static boolean isCompact(Map<String, Object> options) {
+        return (null != options) && Boolean.TRUE.equals(options.get(NUMBER_OPTION_COMPACT));
+    }
+
+    /**
+     * Parse an optionally signed sequence of ASCII digits to a Long without going through
+     * BigInteger. Values that overflow a long are returned as BigInteger.
+     * @param value the trimmed input
+     * @return the value as Long, or BigInteger if it does not fit in a long
+     * @throws NumberFormatException if the input is not an integer
+     */
+    static Number parseCompactInteger(String value) {
+        int length = value.length();
+        int pos = 0;
+        boolean negative = false;
+        if (length > 0) {
+            char first = value.charAt(0);
+            if (first == '-' || first == '+') {
+                negative = (first == '-');
+                pos++;
+            }
+        }
+        if (pos == length)
+            throw new NumberFormatException("Not an integer: \"" + value + "\"");
+        // accumulate negatively, as Long.MIN_VALUE has no positive counterpart
+        long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long multMin = limit / 10;
+        long result = 0;
+        for (; pos < length; pos++) {
+            int digit = value.charAt(pos) - '0';
+            if (digit < 0 || digit > 9)
+                throw new NumberFormatException("Not an integer: \"" + value + "\"");
+            if (result < multMin || (result * 10) < limit + digit) {
+                return overflow(value, pos);
+            }
+            result = result * 10 - digit;
+        }
+        return negative ? result : -result;
+    }
+
+    // checks the remaining characters before handing the whole value to BigInteger
+    private static Number overflow(String value, int pos) {
+        for (int i = pos; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9')
+                throw new NumberFormatException("Not an integer: \"" + value + "\"");
+        }
+        return new BigInteger(value);
+    }
+
+
+    @Override
+    public boolean matches(String value, String format, Map<String, Object> options) {
+        return IntegerField.isInteger(value) && super.matches(value, format, options);
+    }
+
+    @Override
+    public String parseFormat(String value, Map<String, Object> options) {
+        return "default";
+    }
+}
@@ -1,5 +1,6 @@
 package io.frictionlessdata.tableschema.field;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.frictionlessdata.tableschema.exception.ConstraintsException;
 import io.frictionlessdata.tableschema.exception.InvalidCastException;
 import io.frictionlessdata.tableschema.exception.TypeInferringException;
@@ -19,6 +20,12 @@ import java.util.regex.Pattern;
 public class DateField extends Field<LocalDate> {
     // ISO8601 format yyyy-MM-dd
     private static final String REGEX_DATE = "([0-9]{4})-(1[0-2]|0[1-9])-(3[0-1]|0[1-9]|[1-2][0-9])";
+    private static final Pattern PATTERN_DATE = Pattern.compile(REGEX_DATE);
+    private static final DateTimeFormatter FORMATTER_DATE = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+
+    // strptime-style custom format translated to DateTimeFormatters, see getStrptimeFormatters()
+    @JsonIgnore
+    private StrptimeFormatters strptimeFormatters = null;
 
     DateField() {
         super();
@@ -37,45 +44,48 @@ public class DateField extends Field<LocalDate> {
     public LocalDate parseValue(String value, String format, Map<String, Object> options)
             throws InvalidCastException, ConstraintsException {
 
-        Pattern pattern = Pattern.compile(REGEX_DATE);
-        Matcher matcher = pattern.matcher(value);
+        Matcher matcher = PATTERN_DATE.matcher(value);
 
         if(matcher.matches()){
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
-            TemporalAccessor dt = formatter.parse(value);
+            TemporalAccessor dt = FORMATTER_DATE.parse(value);
 
             return LocalDate.from(dt);
         } else {
             if (((!format.equals(Field.FIELD_FORMAT_DEFAULT))
                     && (!format.equals(Field.FIELD_FORMAT_ANY)))) {
-                /* Nasty Python-specific time patterns:
-                    <PATTERN>: date/time values in this field can be parsed according to
-                    <PATTERN>. <PATTERN> MUST follow the syntax of standard Python / C
-                     strptime (That is, values in the this field should be parsable
-                    by Python / C standard strptime using <PATTERN>). Example for "format": "%d/%m/%y" which
-                    would correspond to dates like: 30/11/14
-                 */
-                String regex = format
-                        .replaceAll("%d", "dd")
-                        .replaceAll("%m", "MM")
-                        .replaceAll("%y", "yy");
-                DateTimeFormatter formatter = DateTimeFormatter.ofPattern(regex);
+                StrptimeFormatters formatters = getStrptimeFormatters(format);
                 try {
-                    return LocalDate.from(formatter.parse(value));
+                    return LocalDate.from(formatters.twoDigitYear.parse(value));
                 } catch (DateTimeParseException ex) {
-                    regex = format
-                            .replaceAll("%d", "dd")
-                            .replaceAll("%m", "MM")
-                            .replaceAll("%y", "yyyy");
-
-                    formatter = DateTimeFormatter.ofPattern(regex);
-                    return LocalDate.from(formatter.parse(value));
+                    return LocalDate.from(formatters.fourDigitYear.parse(value));
                 }
             }
             throw new TypeInferringException();
         }
     }
 
+    /**
+     * Nasty Python-specific time patterns:
+     *  &lt;PATTERN&gt;: date/time values in this field can be parsed according to
+     *  &lt;PATTERN&gt;. &lt;PATTERN&gt; MUST follow the syntax of standard Python / C
+     *  strptime (That is, values in the this field should be parsable
+     *  by Python / C standard strptime using &lt;PATTERN&gt;). Example for "format": "%d/%m/%y" which
+     *  would correspond to dates like: 30/11/14
+     *
+     * The translation to DateTimeFormatters is done on first use and again only if the
+     * format changes. `%y` is tried as two-digit year first, then as four-digit year.
+     * @param format the strptime pattern
+     * @return formatters for the two-digit and the four-digit year variant
+     */
+    private StrptimeFormatters getStrptimeFormatters(String format) {
+        StrptimeFormatters formatters = this.strptimeFormatters;
+        if ((null == formatters) || (!formatters.format.equals(format))) {
+            formatters = new StrptimeFormatters(format);
+            this.strptimeFormatters = formatters;
+        }
+        return formatters;
+    }
+
     @Override
     public Object formatValueForJson(LocalDate value) throws InvalidCastException, ConstraintsException {
         if (null == value)
@@ -87,12 +97,36 @@ public class DateField extends Field<LocalDate> {
     public String formatValueAsString(LocalDate value, String format, Map<String, Object> options) throws InvalidCastException, ConstraintsException {
         if (null == value)
             return null;
-        return value.format(DateTimeFormatter.ofPattern("yyyy-MM-dd"));
+        return value.format(FORMATTER_DATE);
     }
 
 
+    @Override
+    public boolean matches(String value, String format, Map<String, Object> options) {
+        // without a custom format, only ISO dates are accepted
+        boolean customFormat = (!format.equals(Field.FIELD_FORMAT_DEFAULT)) && (!format.equals(Field.FIELD_FORMAT_ANY));
+        if (!customFormat && !PATTERN_DATE.matcher(value).matches())
+            return false;
+        return super.matches(value, format, options);
+    }
+
     @Override
     public String parseFormat(String value, Map<String, Object> options) {
         return "default";
     }
+
+    private static final class StrptimeFormatters {
+        private final String format;
+        private final DateTimeFormatter twoDigitYear;
+        private final DateTimeFormatter fourDigitYear;
+
+        StrptimeFormatters(String format) {
+            String pattern = format
+                    .replace("%d", "dd")
+                    .replace("%m", "MM");
+            this.format = format;
+            this.twoDigitYear = DateTimeFormatter.ofPattern(pattern.replace("%y", "yy"));
+            this.fourDigitYear = DateTimeFormatter.ofPattern(pattern.replace("%y", "yyyy"));
+        }
+    }
 }
@@ -41,6 +41,15 @@ public class DurationField extends Field<Duration> {
     }
 
 
+    @Override
+    public boolean matches(String value, String format, Map<String, Object> options) {
+        // ISO 8601 durations start with "P", optionally signed
+        int pos = ((value.length() > 0) && ((value.charAt(0) == '-') || (value.charAt(0) == '+'))) ? 1 : 0;
+        if ((value.length() <= pos) || (Character.toUpperCase(value.charAt(pos)) != 'P'))
+            return false;
+        return super.matches(value, format, options);
+    }
+
     @Override
     public String parseFormat(String value, Map<String, Object> options) {
         return "default";
@@ -150,6 +150,9 @@ public abstract class Field<T> {
 
     Map<String, Object> options = new HashMap<>();
 
+    @JsonIgnore
+    private Pattern constraintPattern = null;
+
     @JsonAnyGetter
     public Map<String, Object> otherFields() {
         return options;
@@ -190,13 +193,48 @@ public abstract class Field<T> {
     }
 
     public static Field fromJson (String json) {
-        return JsonUtil.getInstance().deserialize(json, Field.class);
+        return forOptions(JsonUtil.getInstance().deserialize(json, Field.class));
+    }
+
+    /**
+     * Returns the Field implementation to use for a deserialized Field, depending on its options.
+     * Integer fields with the option `compactNumbers` set to `true` are returned as
+     * {@link CompactIntegerField}, all other Fields as they are.
+     * @param field the deserialized Field
+     * @return the Field to use
+     */
+    public static Field forOptions(Field field) {
+        if ((field instanceof IntegerField) && CompactIntegerField.isCompact(field.options)) {
+            return new CompactIntegerField(field.name, field.format, field.title, field.description,
+                    field.rdfType, field.constraints, field.options);
+        }
+        return field;
     }
 
 
     public abstract T parseValue(String value, String format, Map<String, Object> options)
             throws InvalidCastException, ConstraintsException;
 
+    /**
+     * Probe whether a value can be parsed by this Field, without the cost of exceptions for the
+     * values that can't. Returns true exactly if {@link #parseValue(String, String, Map)} would succeed.
+     *
+     * Subclasses override this to reject values with a cheap check on their characters before
+     * falling back to actually parsing.
+     * @param value the value string to probe
+     * @param format the format to parse with
+     * @param options format options
+     * @return true if the value can be parsed
+     */
+    public boolean matches(String value, String format, Map<String, Object> options) {
+        try {
+            parseValue(value, format, options);
+            return true;
+        } catch (Exception ex) {
+            return false;
+        }
+    }
+
     public abstract String formatValueAsString(T value, String format, Map<String, Object> options)
             throws InvalidCastException, ConstraintsException;
 
@@ -232,6 +270,21 @@ public abstract class Field<T> {
      * @throws ConstraintsException thrown if `enforceConstraints` was set to `true`and constraints were violated
      */
     public T castValue(String value, boolean enforceConstraints, Map<String, Object> options) throws InvalidCastException, ConstraintsException{
+        return castValue(value, format, enforceConstraints, options);
+    }
+
+    /**
+     * Cast a value like {@link #castValue(String, boolean, Map)}, but using `format` instead of the format
+     * of this Field. Callers that find the format in the data can use it without changing a shared Field.
+     * @param value the value string to cast
+     * @param format the format of `value`
+     * @param enforceConstraints whether to enforce Field constraints
+     * @param options casting options
+     * @return result of the cast operation
+     * @throws InvalidCastException if the content of `value` cannot be cast to the destination type
+     * @throws ConstraintsException thrown if `enforceConstraints` was set to `true`and constraints were violated
+     */
+    public T castValue(String value, String format, boolean enforceConstraints, Map<String, Object> options) throws InvalidCastException, ConstraintsException{
         if(this.type.isEmpty()){
             throw new InvalidCastException("Property 'type' must not be empty");
         } else if (StringUtils.isEmpty(value)) {
@@ -341,9 +394,9 @@ public abstract class Field<T> {
         if(this.constraints.containsKey(CONSTRAINT_KEY_MINIMUM)){
             
             if(value instanceof Number){
-                BigDecimal minNumber = new BigDecimal(this.constraints.get(CONSTRAINT_KEY_MINIMUM).toString());
-                if( new BigDecimal(value.toString()).compareTo(minNumber) < 0 ) {
-                    violatedConstraints.put(CONSTRAINT_KEY_MINIMUM, minNumber);
+                Object minimum = this.constraints.get(CONSTRAINT_KEY_MINIMUM);
+                if (compareNumbers((Number)value, minimum) < 0) {
+                    violatedConstraints.put(CONSTRAINT_KEY_MINIMUM, new BigDecimal(minimum.toString()));
                 }
 
             }else if(value instanceof LocalTime){
@@ -388,9 +441,9 @@ public abstract class Field<T> {
         if(this.constraints.containsKey(CONSTRAINT_KEY_MAXIMUM)){
             
             if(value instanceof Number) {
-                BigDecimal maxNumber = new BigDecimal(this.constraints.get(CONSTRAINT_KEY_MAXIMUM).toString());
-                if (new BigDecimal(value.toString()).compareTo(maxNumber) > 0) {
-                    violatedConstraints.put(CONSTRAINT_KEY_MAXIMUM, maxNumber);
+                Object maximum = this.constraints.get(CONSTRAINT_KEY_MAXIMUM);
+                if (compareNumbers((Number)value, maximum) > 0) {
+                    violatedConstraints.put(CONSTRAINT_KEY_MAXIMUM, new BigDecimal(maximum.toString()));
                 }
             }else if(value instanceof LocalTime){
                 LocalTime maxTime = (LocalTime)this.constraints.get(CONSTRAINT_KEY_MAXIMUM);
@@ -440,7 +493,7 @@ public abstract class Field<T> {
             
             // Constraint only applies to a String value.
             if(value instanceof String){       
-                Pattern pattern = Pattern.compile(regexPatternString);
+                Pattern pattern = getConstraintPattern(regexPatternString);
                 Matcher matcher = pattern.matcher((String)value);
                 
                 if(!matcher.matches()){
@@ -479,12 +532,12 @@ public abstract class Field<T> {
                     }
                 }
                 
-            }else if(value instanceof Integer){
-                List<Integer> intList = (List<Integer>)this.constraints.get(CONSTRAINT_KEY_ENUM);
+            }else if((value instanceof Integer) || (value instanceof Long)){
+                List<Number> intList = (List<Number>)this.constraints.get(CONSTRAINT_KEY_ENUM);
                 
-                Iterator<Integer> iter = intList.iterator();
+                Iterator<Number> iter = intList.iterator();
                 while(iter.hasNext()){
-                    if(iter.next() == (int)value){
+                    if(iter.next().longValue() == ((Number)value).longValue()){
                         violatesEnumConstraint = false;
                         break;
                     }
@@ -554,11 +607,72 @@ public abstract class Field<T> {
         return violatedConstraints;
     }
 
+    /**
+     * The `pattern` constraint is compiled on first use and recompiled only if the
+     * constraint changes.
+     */
+    private Pattern getConstraintPattern(String regexPatternString) {
+        Pattern pattern = this.constraintPattern;
+        if ((null == pattern) || (!pattern.pattern().equals(regexPatternString))) {
+            pattern = Pattern.compile(regexPatternString);
+            this.constraintPattern = pattern;
+        }
+        return pattern;
+    }
+
+    /**
+     * Compare a numeric value against a minimum/maximum constraint. Long and Integer values
+     * compared to integral bounds skip the BigDecimal conversion.
+     */
+    private static int compareNumbers(Number value, Object bound) {
+        if (((value instanceof Long) || (value instanceof Integer))
+                && ((bound instanceof Long) || (bound instanceof Integer))) {
+            return Long.compare(value.longValue(), ((Number)bound).longValue());
+        }
+        return new BigDecimal(value.toString()).compareTo(new BigDecimal(bound.toString()));
+    }
+
+    /**
+     * Returns the first character of a value that is neither whitespace nor a control character,
+     * or -1 for blank values. Skips at least what String.trim() and JSON parsers skip.
+     */
+    static int firstNonWhitespace(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if ((c > ' ') && !Character.isWhitespace(c))
+                return c;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns true if the character can be the first of a number accepted by Double.parseDouble()
+     * or BigDecimal.
+     */
+    static boolean isNumberStart(int c) {
+        return ((c >= '0') && (c <= '9')) || (c == '-') || (c == '+') || (c == '.')
+                || (c == 'N') || (c == 'I') || ((c > 0x7f) && Character.isDigit(c));
+    }
+
     public static Field forType(String type, String name) {
+        return forType(type, name, null);
+    }
+
+    /**
+     * Create a Field of type `type` with options. The options decide on the implementation
+     * for some types, see {@link #forOptions(Field)}.
+     * @param type the Field type
+     * @param name the Field name
+     * @param options the Field options, can be null
+     * @return the Field
+     */
+    public static Field forType(String type, String name, Map<String, Object> options) {
         Map<String, Object> fieldMap = new HashMap<>();
+        if (null != options)
+            fieldMap.putAll(options);
         fieldMap.put(JSON_KEY_TYPE, type);
         fieldMap.put(JSON_KEY_NAME, name);
-        return JsonUtil.getInstance().convertValue(fieldMap, Field.class);
+        return forOptions(JsonUtil.getInstance().convertValue(fieldMap, Field.class));
     }
 
     /**
@@ -94,11 +94,21 @@ public class GeojsonField extends Field<JsonNode> {
         topoJsonSchema.validate(json);
     }
 
+    @Override
+    public boolean matches(String value, String format, Map<String, Object> options) {
+        // GeoJSON and TopoJSON are always JSON objects
+        if (firstNonWhitespace(value) != '{')
+            return false;
+        return super.matches(value, format, options);
+    }
+
     /*
      try to parse both formats, suppress exceptions
      */
     @Override
     public String parseFormat(String json, Map<String, Object> options) {
+        if (firstNonWhitespace(json) != '{')
+            return "default";
         try {
             validateGeoJsonSchema(json);
             return FIELD_TYPE_GEOJSON;
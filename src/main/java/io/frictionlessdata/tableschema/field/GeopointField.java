@@ -12,6 +12,8 @@ import java.util.LinkedHashMap;
 import java.util.Map;
 
 public class GeopointField extends Field<double[]> {
+    // characters a JSON value can start with, with single quotes allowed
+    private static final String JSON_START_CHARS = "{[\"'-0123456789tfn";
 
     GeopointField(){
         super();
@@ -114,8 +116,31 @@ public class GeopointField extends Field<double[]> {
         return null;
     }
 
+    @Override
+    public boolean matches(String value, String format, Map<String, Object> options) {
+        int first = firstNonWhitespace(value);
+        if (format.equalsIgnoreCase(Field.FIELD_FORMAT_DEFAULT)) {
+            // two numbers separated by a comma
+            if ((value.indexOf(',') < 0) || !isNumberStart(first))
+                return false;
+        } else if (format.equalsIgnoreCase(Field.FIELD_FORMAT_ARRAY)) {
+            if (first != '[')
+                return false;
+        } else if (format.equalsIgnoreCase(Field.FIELD_FORMAT_OBJECT)) {
+            if (first != '{')
+                return false;
+        } else {
+            return false;
+        }
+        return super.matches(value, format, options);
+    }
+
     @Override
     public String parseFormat(String value, Map<String, Object> options) {
+        // values that can't be JSON don't need a parse attempt
+        int first = firstNonWhitespace(value);
+        if ((first >= 0) && (JSON_START_CHARS.indexOf(first) < 0))
+            return FIELD_FORMAT_DEFAULT;
         try {
             JsonNode node = JsonUtil.getInstance().createNode(value);
             if(node.isArray()) {
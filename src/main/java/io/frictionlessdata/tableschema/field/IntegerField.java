@@ -10,6 +10,8 @@ import java.util.Map;
 /**
  * [According to spec](http://frictionlessdata.io/specs/table-schema/index.html#number), a number field
  * consists of "a non-empty finite-length sequence of decimal digits".
+ *
+ * Integer fields with the option `compactNumbers` set to `true` are created as {@link CompactIntegerField}s.
  */
 public class IntegerField extends Field<BigInteger> {
 
@@ -39,6 +41,24 @@ public class IntegerField extends Field<BigInteger> {
     }
 
 
+    @Override
+    public boolean matches(String value, String format, Map<String, Object> options) {
+        return isInteger(value) && super.matches(value, format, options);
+    }
+
+    // an optional sign followed by digits only
+    static boolean isInteger(String value) {
+        String trimmed = value.trim();
+        int start = ((trimmed.length() > 0) && ((trimmed.charAt(0) == '-') || (trimmed.charAt(0) == '+'))) ? 1 : 0;
+        if (trimmed.length() <= start)
+            return false;
+        for (int i = start; i < trimmed.length(); i++) {
+            if (Character.digit(trimmed.charAt(i), 10) < 0)
+                return false;
+        }
+        return true;
+    }
+
     @Override
     public String parseFormat(String value, Map<String, Object> options) {
         return "default";
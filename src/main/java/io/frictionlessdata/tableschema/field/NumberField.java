@@ -17,6 +17,9 @@ import java.util.regex.Pattern;
 /**
  * [According to spec](http://frictionlessdata.io/specs/table-schema/index.html#number), a number field
  * consists of "a non-empty finite-length sequence of decimal digits".
+ *
+ * Values are parsed to BigInteger or BigDecimal by default. If the field has the option `compactNumbers`
+ * set to `true`, integral values are parsed to Long (BigInteger if they overflow) and decimals to Double.
  */
 
 public class NumberField extends Field<Number> {
@@ -28,6 +31,10 @@ public class NumberField extends Field<Number> {
 
     private static final String REGEX_INTEGER = "[+-]?\\d+";
     private static final String REGEX_BARE_NUMBER = "((^\\D*)|(\\D*$))";
+    private static final Pattern PATTERN_INTEGER = Pattern.compile(REGEX_INTEGER);
+    // characters besides digits that can occur in a plain number
+    private static final String NUMBER_CHARS = "+-.eE";
+    private static final Pattern PATTERN_BARE_NUMBER = Pattern.compile(REGEX_BARE_NUMBER);
 
     private static final NumberFormat numberFormat = NumberFormat.getInstance(Locale.ENGLISH);
     static {
@@ -66,15 +73,17 @@ public class NumberField extends Field<Number> {
                 }
 
                 if(options.containsKey(NUMBER_OPTION_BARE_NUMBER) && !(boolean)options.get(NUMBER_OPTION_BARE_NUMBER)){
-                    locValue = locValue.replaceAll(REGEX_BARE_NUMBER, "");
+                    locValue = PATTERN_BARE_NUMBER.matcher(locValue).replaceAll("");
                 }
             }
 
             // Try to match integer pattern
-            Pattern intPattern = Pattern.compile(REGEX_INTEGER);
-            Matcher integerMatcher = intPattern.matcher(locValue);
+            Matcher integerMatcher = PATTERN_INTEGER.matcher(locValue);
 
+            boolean compact = CompactIntegerField.isCompact(options);
             if(integerMatcher.matches()){
+                if (compact)
+                    return CompactIntegerField.parseCompactInteger(locValue);
                 return new BigInteger(locValue);
             }
 
@@ -86,11 +95,24 @@ public class NumberField extends Field<Number> {
             } else if (locValue.equalsIgnoreCase("-INF")) {
                 return Double.NEGATIVE_INFINITY;
             }
+            if (compact && isPlainDecimal(locValue))
+                return Double.parseDouble(locValue);
             return new BigDecimal(locValue);
         }catch(Exception e){
             throw new TypeInferringException();
         }
     }
+    // Double.parseDouble() also accepts hex notation, type suffixes and "Infinity",
+    // which BigDecimal rejects. Only hand it what BigDecimal would accept.
+    private static boolean isPlainDecimal(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (!((c >= '0' && c <= '9') || c == '.' || c == '-' || c == '+' || c == 'e' || c == 'E'))
+                return false;
+        }
+        return true;
+    }
+
     public Object formatValueForJson(Number value) throws InvalidCastException, ConstraintsException {
         return formatValueAsString(value, null, options);
     }
@@ -121,7 +143,7 @@ public class NumberField extends Field<Number> {
             } else {
                 return formatNumber(numberFormat.format(locVal), options);
             }
-        }else if (value instanceof BigInteger) {
+        }else if ((value instanceof BigInteger) || (value instanceof Long) || (value instanceof Integer)) {
             return formatNumber(value.toString(), options);
         } else if (value instanceof BigDecimal) {
             return formatNumber(((BigDecimal)value).toPlainString(), options);
@@ -164,6 +186,24 @@ public class NumberField extends Field<Number> {
         return insertThousandsGroupSeparator(locString, groupSeparator)+groupSeparator+remainder;
     }
 
+    @Override
+    public boolean matches(String value, String format, Map<String, Object> options) {
+        // options can change the allowed characters, leave those cases to the parser
+        if (null == options) {
+            String locValue = value.trim();
+            for (int i = 0; i < locValue.length(); i++) {
+                char c = locValue.charAt(i);
+                if (!Character.isDigit(c) && (NUMBER_CHARS.indexOf(c) < 0)) {
+                    if (!locValue.equalsIgnoreCase("NaN") && !locValue.equalsIgnoreCase("INF")
+                            && !locValue.equalsIgnoreCase("-INF") && !value.equalsIgnoreCase("null"))
+                        return false;
+                    break;
+                }
+            }
+        }
+        return super.matches(value, format, options);
+    }
+
     @Override
     public String parseFormat(String value, Map<String, Object> options) {
         return "default";
@@ -51,6 +51,11 @@ public class StringField extends Field<String> {
     }
 
 
+    @Override
+    public boolean matches(String value, String format, Map<String, Object> options) {
+        return true;
+    }
+
     /**
      * Given a value, try to parse the format.
      *
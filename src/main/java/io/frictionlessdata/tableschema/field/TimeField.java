@@ -15,6 +15,7 @@ import java.util.regex.Pattern;
 public class TimeField extends Field<LocalTime> {
     // An ISO8601 time string e.g. HH:mm:ss
     private static final String REGEX_TIME = "(2[0-3]|[01]?[0-9]):?([0-5]?[0-9]):?([0-5]?[0-9])";
+    private static final Pattern PATTERN_TIME = Pattern.compile(REGEX_TIME);
 
     TimeField() {
         super();
@@ -31,8 +32,7 @@ public class TimeField extends Field<LocalTime> {
 
     @Override
     public LocalTime parseValue(String value, String format, Map<String, Object> options) throws InvalidCastException, ConstraintsException {
-        Pattern pattern = Pattern.compile(REGEX_TIME);
-        Matcher matcher = pattern.matcher(value);
+        Matcher matcher = PATTERN_TIME.matcher(value);
 
         if(matcher.matches()){
             return LocalTime.parse(value);
@@ -56,6 +56,13 @@ public class TimeField extends Field<LocalTime> {
         return value.format(DateTimeFormatter.ISO_LOCAL_TIME);
     }
 
+    @Override
+    public boolean matches(String value, String format, Map<String, Object> options) {
+        if (!PATTERN_TIME.matcher(value).matches())
+            return false;
+        return super.matches(value, format, options);
+    }
+
     @Override
     public String parseFormat(String value, Map<String, Object> options) {
         return "default";
@@ -13,6 +13,7 @@ import java.util.regex.Pattern;
 public class YearField extends Field<Year> {
     // yyyy
     private static final String REGEX_YEAR = "([0-9]{4})";
+    private static final Pattern PATTERN_YEAR = Pattern.compile(REGEX_YEAR);
 
     YearField() {
         super();
@@ -29,8 +30,7 @@ public class YearField extends Field<Year> {
 
     @Override
     public Year parseValue(String value, String format, Map<String, Object> options) throws InvalidCastException, ConstraintsException {
-        Pattern pattern = Pattern.compile(REGEX_YEAR);
-        Matcher matcher = pattern.matcher(value);
+        Matcher matcher = PATTERN_YEAR.matcher(value);
 
         if(matcher.matches()){
             return Year.parse(value);
@@ -55,6 +55,13 @@ public class YearField extends Field<Year> {
         return value.toString();
     }
 
+    @Override
+    public boolean matches(String value, String format, Map<String, Object> options) {
+        if (!PATTERN_YEAR.matcher(value).matches())
+            return false;
+        return super.matches(value, format, options);
+    }
+
     @Override
     public String parseFormat(String value, Map<String, Object> options) {
         return "default";
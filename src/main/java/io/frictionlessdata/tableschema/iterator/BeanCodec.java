@@ -0,0 +1,505 @@
+package io.frictionlessdata.tableschema.iterator;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.introspect.AnnotatedField;
+import com.google.common.util.concurrent.AtomicDouble;
+import io.frictionlessdata.tableschema.annotations.FieldFormat;
+import io.frictionlessdata.tableschema.exception.TableSchemaException;
+import io.frictionlessdata.tableschema.field.ArrayField;
+import io.frictionlessdata.tableschema.field.Field;
+import io.frictionlessdata.tableschema.field.IntegerField;
+import io.frictionlessdata.tableschema.field.ObjectField;
+import io.frictionlessdata.tableschema.schema.BeanSchema;
+import io.frictionlessdata.tableschema.util.JsonUtil;
+import org.apache.commons.lang3.StringUtils;
+import org.locationtech.jts.geom.Coordinate;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Reader from rows to instances of a Bean class and writer from Bean instances back to rows, built once
+ * per Bean class and column order. Everything that doesn't change from row to row is resolved up front:
+ * the Schema field and Bean property for each column, the {@link FieldFormat} annotation, setters, getters
+ * and the constructor as {@link MethodHandle}s, and the conversions between the values of the Schema
+ * fields and the types of the properties. Per row, only parsing, converting and the MethodHandle calls remain.
+ *
+ * Properties of type `int`, `long` and `double` without constraints or options on their Schema field are
+ * parsed straight from the String and set without boxing or an intermediate BigInteger or BigDecimal.
+ * Values the fast path can't parse fall back to casting by the Schema field, so the results are the same.
+ *
+ * Fields with the default format get their format detected from the first value read, as the Schema
+ * inferred from the Bean class can't know it. The format is kept in the BeanCodec, the Schema fields are
+ * never changed. Because of this, a BeanCodec must not be shared between threads.
+ *
+ * @param <T> the Bean class
+ */
+public final class BeanCodec<T> {
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class);
+
+    private final String[] headers;
+    private final MethodHandle constructor;
+    private final PropertyCodec[] properties;
+
+    private BeanCodec(String[] headers, MethodHandle constructor, PropertyCodec[] properties) {
+        this.headers = headers;
+        this.constructor = constructor;
+        this.properties = properties;
+    }
+
+    /**
+     * Create a BeanCodec for rows with one column per field of the Schema inferred from the Bean class,
+     * in Schema order.
+     * @param type the Bean class
+     * @return the BeanCodec
+     */
+    public static <T> BeanCodec<T> forClass(Class<T> type) {
+        return forSchema(type, BeanSchema.shared(type));
+    }
+
+    /**
+     * Create a BeanCodec for rows with columns named `headers`. Columns that don't match
+     * a Bean property are skipped when reading and left null when writing.
+     * @param type the Bean class
+     * @param headers the headers of the rows, in column order
+     * @return the BeanCodec
+     */
+    public static <T> BeanCodec<T> forClass(Class<T> type, String[] headers) {
+        return forSchema(type, BeanSchema.shared(type), headers);
+    }
+
+    /**
+     * Create a BeanCodec that casts and formats values with the Fields of `schema` instead of those
+     * of the shared Schema of the Bean class, e.g. to write with other formats. Rows have one column
+     * per field of `schema`, in Schema order.
+     * @param type the Bean class
+     * @param schema a Schema inferred from the Bean class
+     * @return the BeanCodec
+     */
+    public static <T> BeanCodec<T> forSchema(Class<T> type, BeanSchema schema) {
+        String[] headers = schema.getFields().stream().map(Field::getName).toArray(String[]::new);
+        return forSchema(type, schema, headers);
+    }
+
+    /**
+     * Create a BeanCodec that casts and formats values with the Fields of `schema`, for rows
+     * with columns named `headers`.
+     * @param type the Bean class
+     * @param schema a Schema inferred from the Bean class
+     * @param headers the headers of the rows, in column order
+     * @return the BeanCodec
+     */
+    static <T> BeanCodec<T> forSchema(Class<T> type, BeanSchema schema, String[] headers) {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        MethodHandle constructor;
+        try {
+            Constructor<T> declaredConstructor = type.getDeclaredConstructor();
+            declaredConstructor.setAccessible(true);
+            constructor = lookup.unreflectConstructor(declaredConstructor).asType(CONSTRUCTOR_TYPE);
+        } catch (NoSuchMethodException | IllegalAccessException ex) {
+            throw new TableSchemaException(ex);
+        }
+        List<PropertyCodec> properties = new ArrayList<>();
+        for (int i = 0; i < headers.length; i++) {
+            String fieldName = headers[i];
+            Field field = schema.getField(fieldName);
+            AnnotatedField aF = schema.getAnnotatedField(fieldName);
+            if ((null == field) || (null == aF)) {
+                continue;
+            }
+            Class<?> propertyClass = aF.getRawType();
+            Function<Object, Object> readConverter = createReadConverter(propertyClass, field);
+            if (null == readConverter) {
+                continue;
+            }
+            MethodHandle setter;
+            MethodHandle getter;
+            try {
+                java.lang.reflect.Field declaredField = aF.getAnnotated();
+                declaredField.setAccessible(true);
+                setter = lookup.unreflectSetter(declaredField);
+                getter = lookup.unreflectGetter(declaredField);
+            } catch (IllegalAccessException ex) {
+                throw new TableSchemaException(ex);
+            }
+            FieldFormat annotation = aF.getAnnotation(FieldFormat.class);
+            // we may have a field that can have different formats
+            // but the Schema doesn't know about the true format
+            String format = (null != annotation)
+                    ? annotation.format()
+                    : (Field.FIELD_FORMAT_DEFAULT.equals(field.getFormat()) ? null : field.getFormat());
+            Function<Object, Object> writeConverter = createWriteConverter(propertyClass, field);
+            boolean fast = (null == annotation) && isPlain(field);
+            if (fast && int.class.equals(propertyClass)) {
+                properties.add(new IntPropertyCodec(i, field, format, readConverter, writeConverter, setter, getter));
+            } else if (fast && long.class.equals(propertyClass)) {
+                properties.add(new LongPropertyCodec(i, field, format, readConverter, writeConverter, setter, getter));
+            } else if (fast && double.class.equals(propertyClass)) {
+                properties.add(new DoublePropertyCodec(i, field, format, readConverter, writeConverter, setter, getter));
+            } else {
+                properties.add(new PropertyCodec(i, field, format, readConverter, writeConverter, setter, getter));
+            }
+        }
+        return new BeanCodec<>(headers.clone(), constructor, properties.toArray(new PropertyCodec[0]));
+    }
+
+    /**
+     * Returns the headers of the rows this BeanCodec reads and writes
+     * @return the headers in column order
+     */
+    public String[] getHeaders() {
+        return headers.clone();
+    }
+
+    /**
+     * Create a Bean instance from a row.
+     * @param row the row as read from the data source
+     * @return the Bean
+     */
+    @SuppressWarnings("unchecked")
+    public T read(String[] row) {
+        try {
+            Object bean = constructor.invokeExact();
+            for (PropertyCodec property : properties) {
+                if (property.index < row.length) {
+                    property.read(bean, row[property.index]);
+                }
+            }
+            return (T)bean;
+        } catch (Throwable ex) {
+            throw propagate(ex);
+        }
+    }
+
+    /**
+     * Format the properties of a Bean as a row, using the formats of the Schema fields.
+     * @param bean the Bean
+     * @return the row, with null for null properties and for columns without a Bean property
+     */
+    public String[] write(T bean) {
+        String[] row = new String[headers.length];
+        try {
+            for (PropertyCodec property : properties) {
+                row[property.index] = property.write(bean);
+            }
+        } catch (Throwable ex) {
+            throw propagate(ex);
+        }
+        return row;
+    }
+
+    /**
+     * Returns the properties of a Bean as values of the types the Schema fields cast to,
+     * e.g. for formatting them with {@link Field#formatValueForJson(Object)}.
+     * @param bean the Bean
+     * @return the values, with null for null properties and for columns without a Bean property
+     */
+    public Object[] writeValues(T bean) {
+        Object[] values = new Object[headers.length];
+        try {
+            for (PropertyCodec property : properties) {
+                values[property.index] = property.writeValue(bean);
+            }
+        } catch (Throwable ex) {
+            throw propagate(ex);
+        }
+        return values;
+    }
+
+    private static RuntimeException propagate(Throwable ex) {
+        if (ex instanceof RuntimeException)
+            return (RuntimeException)ex;
+        if (ex instanceof Error)
+            throw (Error)ex;
+        return new TableSchemaException(ex);
+    }
+
+    // the values of these Fields are not checked against constraints and parsed without options
+    private static boolean isPlain(Field field) {
+        Map constraints = field.getConstraints();
+        Map options = field.getOptions();
+        return ((null == constraints) || constraints.isEmpty())
+                && ((null == options) || options.isEmpty())
+                && ((null == field.getFormat()) || Field.FIELD_FORMAT_DEFAULT.equals(field.getFormat()));
+    }
+
+    /**
+     * Returns the conversion from the value a Field casts to into the type of the Bean property,
+     * or null if values can't be set on properties of that type.
+     */
+    private static Function<Object, Object> createReadConverter(Class<?> propertyClass, Field field) {
+        if (Number.class.isAssignableFrom(propertyClass)) {
+            return createNumberConverter(propertyClass);
+        } else if (byte.class.equals(propertyClass)) {
+            return (val) -> Byte.valueOf(((Number)val).shortValue()+"");
+        } else if (short.class.equals(propertyClass)) {
+            return (val) -> ((Number)val).shortValue();
+        } else if (int.class.equals(propertyClass)) {
+            return (val) -> ((Number)val).intValue();
+        } else if (long.class.equals(propertyClass)) {
+            return (val) -> ((Number)val).longValue();
+        } else if (float.class.equals(propertyClass)) {
+            return (val) -> ((Number)val).floatValue();
+        } else if (double.class.equals(propertyClass)) {
+            return (val) -> ((Number)val).doubleValue();
+        } else if (UUID.class.equals(propertyClass)) {
+            return (val) -> UUID.fromString((String)val);
+        } else if (Coordinate.class.isAssignableFrom(propertyClass)) {
+            return (val) -> {
+                double[] arr = (double[])val;
+                return new Coordinate(arr[0], arr[1]);
+            };
+        } else if (field instanceof ObjectField) {
+            if (propertyClass.equals(JsonNode.class)) {
+                return (val) -> JsonUtil.getInstance().readValue(val.toString());
+            }
+            // this conversion method may also be used for the other field types
+            return (val) -> JsonUtil.getInstance().convertValue(val, propertyClass);
+        }
+        return Function.identity();
+    }
+
+    private static Function<Object, Object> createNumberConverter(Class<?> propertyClass) {
+        if (propertyClass.equals(BigDecimal.class)) {
+            return (val) -> new BigDecimal(val.toString());
+        } else if (propertyClass.equals(Float.class)) {
+            return (val) -> ((Number)val).floatValue();
+        } else if (propertyClass.equals(Double.class)) {
+            return (val) -> ((Number)val).doubleValue();
+        } else if (propertyClass.equals(Integer.class)) {
+            return (val) -> ((Number)val).intValue();
+        } else if (propertyClass.equals(Long.class)) {
+            return (val) -> ((Number)val).longValue();
+        } else if (propertyClass.equals(Short.class)) {
+            return (val) -> ((Number)val).shortValue();
+        } else if (propertyClass.equals(Byte.class)) {
+            return (val) -> ((Number)val).byteValue();
+        } else if (propertyClass.equals(BigInteger.class)) {
+            return (val) -> new BigInteger(val.toString());
+        } else if (propertyClass.equals(AtomicInteger.class)) {
+            return (val) -> new AtomicInteger(((Number)val).intValue());
+        } else if (propertyClass.equals(AtomicLong.class)) {
+            return (val) -> new AtomicLong(((Number)val).longValue());
+        } else if (propertyClass.equals(AtomicDouble.class)) {
+            return (val) -> new AtomicDouble(((Number)val).doubleValue());
+        }
+        return null;
+    }
+
+    /**
+     * Returns the conversion from the value of a Bean property into the type the Field formats.
+     * The Field methods cast their argument to the value type of the Field, so every property
+     * type has to be converted exactly, e.g. an Integer property into a BigInteger for an IntegerField.
+     */
+    private static Function<Object, Object> createWriteConverter(Class<?> propertyClass, Field field) {
+        if (field instanceof IntegerField) {
+            return createIntegerWriteConverter(propertyClass);
+        } else if (AtomicDouble.class.equals(propertyClass)) {
+            return (val) -> ((AtomicDouble)val).get();
+        } else if (UUID.class.equals(propertyClass)) {
+            return Object::toString;
+        } else if (Coordinate.class.isAssignableFrom(propertyClass)) {
+            return (val) -> new double[]{((Coordinate)val).x, ((Coordinate)val).y};
+        } else if ((field instanceof ObjectField) && !Map.class.isAssignableFrom(propertyClass)) {
+            return (val) -> JsonUtil.getInstance().convertValue(val, Map.class);
+        } else if ((field instanceof ArrayField) && Collection.class.isAssignableFrom(propertyClass)) {
+            return (val) -> ((Collection<?>)val).toArray();
+        }
+        return Function.identity();
+    }
+
+    private static Function<Object, Object> createIntegerWriteConverter(Class<?> propertyClass) {
+        if (BigInteger.class.equals(propertyClass)) {
+            return Function.identity();
+        } else if (AtomicInteger.class.equals(propertyClass)) {
+            return (val) -> BigInteger.valueOf(((AtomicInteger)val).get());
+        } else if (AtomicLong.class.equals(propertyClass)) {
+            return (val) -> BigInteger.valueOf(((AtomicLong)val).get());
+        }
+        // boxed primitives: Integer, Long, Short and Byte
+        return (val) -> BigInteger.valueOf(((Number)val).longValue());
+    }
+
+    /**
+     * Reads and writes one Bean property from and to one column, casting through the Schema field.
+     */
+    private static class PropertyCodec {
+        final int index;
+        final Field field;
+        private final Function<Object, Object> readConverter;
+        private final Function<Object, Object> writeConverter;
+        private final MethodHandle setter;
+        private final MethodHandle getter;
+        // null until detected from the first value
+        private String format;
+
+        PropertyCodec(
+                int index,
+                Field field,
+                String format,
+                Function<Object, Object> readConverter,
+                Function<Object, Object> writeConverter,
+                MethodHandle setter,
+                MethodHandle getter) {
+            this.index = index;
+            this.field = field;
+            this.format = format;
+            this.readConverter = readConverter;
+            this.writeConverter = writeConverter;
+            this.setter = setter.asType(SETTER_TYPE);
+            this.getter = getter.asType(GETTER_TYPE);
+        }
+
+        void read(Object bean, String value) throws Throwable {
+            if (StringUtils.isEmpty(value)) {
+                return;
+            }
+            if (null == format) {
+                // have to parse format here when we have actual sample data
+                // instead of at BeanSchema inferral time
+                format = field.parseFormat(value, null);
+            }
+            Object val = field.castValue(value, format, true, field.getOptions());
+            if (null != val) {
+                setter.invokeExact(bean, readConverter.apply(val));
+            }
+        }
+
+        String write(Object bean) throws Throwable {
+            Object val = writeValue(bean);
+            if (null == val) {
+                return null;
+            }
+            String writeFormat = (null != format) ? format : field.getFormat();
+            return field.formatValueAsString(val, writeFormat, field.getOptions());
+        }
+
+        Object writeValue(Object bean) throws Throwable {
+            Object val = getter.invokeExact(bean);
+            return (null == val) ? null : writeConverter.apply(val);
+        }
+    }
+
+    private static final class IntPropertyCodec extends PropertyCodec {
+        private final MethodHandle intSetter;
+        private final MethodHandle intGetter;
+
+        IntPropertyCodec(int index, Field field, String format, Function<Object, Object> readConverter,
+                         Function<Object, Object> writeConverter, MethodHandle setter, MethodHandle getter) {
+            super(index, field, format, readConverter, writeConverter, setter, getter);
+            this.intSetter = setter.asType(MethodType.methodType(void.class, Object.class, int.class));
+            this.intGetter = getter.asType(MethodType.methodType(int.class, Object.class));
+        }
+
+        @Override
+        void read(Object bean, String value) throws Throwable {
+            if (StringUtils.isEmpty(value)) {
+                return;
+            }
+            int parsed;
+            try {
+                parsed = Integer.parseInt(value.trim());
+            } catch (NumberFormatException ex) {
+                super.read(bean, value);
+                return;
+            }
+            intSetter.invokeExact(bean, parsed);
+        }
+
+        @Override
+        String write(Object bean) throws Throwable {
+            return Integer.toString((int) intGetter.invokeExact(bean));
+        }
+    }
+
+    private static final class LongPropertyCodec extends PropertyCodec {
+        private final MethodHandle longSetter;
+        private final MethodHandle longGetter;
+
+        LongPropertyCodec(int index, Field field, String format, Function<Object, Object> readConverter,
+                          Function<Object, Object> writeConverter, MethodHandle setter, MethodHandle getter) {
+            super(index, field, format, readConverter, writeConverter, setter, getter);
+            this.longSetter = setter.asType(MethodType.methodType(void.class, Object.class, long.class));
+            this.longGetter = getter.asType(MethodType.methodType(long.class, Object.class));
+        }
+
+        @Override
+        void read(Object bean, String value) throws Throwable {
+            if (StringUtils.isEmpty(value)) {
+                return;
+            }
+            long parsed;
+            try {
+                parsed = Long.parseLong(value.trim());
+            } catch (NumberFormatException ex) {
+                super.read(bean, value);
+                return;
+            }
+            longSetter.invokeExact(bean, parsed);
+        }
+
+        @Override
+        String write(Object bean) throws Throwable {
+            return Long.toString((long) longGetter.invokeExact(bean));
+        }
+    }
+
+    private static final class DoublePropertyCodec extends PropertyCodec {
+        private final MethodHandle doubleSetter;
+
+        DoublePropertyCodec(int index, Field field, String format, Function<Object, Object> readConverter,
+                            Function<Object, Object> writeConverter, MethodHandle setter, MethodHandle getter) {
+            super(index, field, format, readConverter, writeConverter, setter, getter);
+            this.doubleSetter = setter.asType(MethodType.methodType(void.class, Object.class, double.class));
+        }
+
+        /**
+         * Double.parseDouble() also accepts hex notation, type suffixes and "Infinity", so only
+         * plain decimals take the fast path. Like the Field, it rounds the decimal value once.
+         */
+        @Override
+        void read(Object bean, String value) throws Throwable {
+            if (StringUtils.isEmpty(value)) {
+                return;
+            }
+            String trimmed = value.trim();
+            if (!isPlainDecimal(trimmed)) {
+                super.read(bean, value);
+                return;
+            }
+            double parsed;
+            try {
+                parsed = Double.parseDouble(trimmed);
+            } catch (NumberFormatException ex) {
+                super.read(bean, value);
+                return;
+            }
+            doubleSetter.invokeExact(bean, parsed);
+        }
+
+        private static boolean isPlainDecimal(String value) {
+            if (value.isEmpty())
+                return false;
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (!((c >= '0' && c <= '9') || c == '.' || c == '-' || c == '+' || c == 'e' || c == 'E'))
+                    return false;
+            }
+            return true;
+        }
+    }
+}
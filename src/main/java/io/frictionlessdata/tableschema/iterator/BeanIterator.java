@@ -1,23 +1,8 @@
 package io.frictionlessdata.tableschema.iterator;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.introspect.AnnotatedField;
-import com.fasterxml.jackson.dataformat.csv.CsvMapper;
-import com.google.common.util.concurrent.AtomicDouble;
 import io.frictionlessdata.tableschema.Table;
-import io.frictionlessdata.tableschema.annotations.FieldFormat;
-import io.frictionlessdata.tableschema.exception.TableSchemaException;
-import io.frictionlessdata.tableschema.field.Field;
-import io.frictionlessdata.tableschema.field.ObjectField;
+import io.frictionlessdata.tableschema.datasourceformat.OpenedSource;
 import io.frictionlessdata.tableschema.schema.BeanSchema;
-import io.frictionlessdata.tableschema.util.JsonUtil;
-import org.locationtech.jts.geom.Coordinate;
-
-import java.math.BigDecimal;
-import java.math.BigInteger;
-import java.util.UUID;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * {@link TableIterator} based on a Java Bean class instead of a {@link io.frictionlessdata.tableschema.schema.Schema}.
@@ -28,7 +13,7 @@ import java.util.concurrent.atomic.AtomicLong;
  */
 public class BeanIterator<T> extends TableIterator<T> {
     private Class<T> type = null;
-    private CsvMapper mapper = new CsvMapper();
+    private BeanCodec<T> codec = null;
 
     public BeanIterator(Table table,  Class<T> beanType, boolean relations) throws Exception {
         this.type = beanType;
@@ -38,123 +23,33 @@ public class BeanIterator<T> extends TableIterator<T> {
 
     /**
      * Overrides {@link TableIterator#init(Table)} and instead of copying the Schema from the Table,
-     * infers a Schema from the Bean type.
+     * uses the Schema inferred from the Bean type, which is shared by all BeanIterators for the type.
      * @param table The Table to iterate data on
      * @throws Exception in case header parsing, Schema inferral or Schema validation fails
      */
     @Override
     void init(Table table) throws Exception{
-        mapping = table.getSchemaHeaderMapping();
-        headers = table.getHeaders();
-        schema = BeanSchema.infer(type);
-        table.validate();
-        wrappedIterator = table.getDataSourceFormat().iterator();
+        OpenedSource source = table.getDataSourceFormat().open();
+        try {
+            mapping = table.getSchemaHeaderMapping();
+            headers = table.getHeaders();
+            schema = BeanSchema.shared(type);
+            table.validate();
+            codec = BeanCodec.forSchema(type, (BeanSchema) schema, headers);
+        } catch (Exception ex) {
+            source.close();
+            throw ex;
+        }
+        this.source = source;
+        wrappedIterator = source.getRowIterator();
     }
 
     @Override
     public T next() {
-        T retVal;
-        final String[] row = super.wrappedIterator.next();
-
         try {
-            retVal = type.newInstance();
-            for (int i = 0; i < row.length; i++) {
-                String fieldName = headers[i];
-                Field field = schema.getField(fieldName);
-                if (null == field) {
-                    continue;
-                }
-                AnnotatedField aF = ((BeanSchema) schema).getAnnotatedField(fieldName);
-
-                FieldFormat annotation = aF.getAnnotation(FieldFormat.class);
-                String fieldFormat = field.getFormat();
-                if (null != annotation) {
-                    fieldFormat = annotation.format();
-                } else {
-                    // we may have a field that can have different formats
-                    // but the Schema doesn't know about the true format
-                    if (fieldFormat.equals(Field.FIELD_FORMAT_DEFAULT)) {
-                        // have to parse format here when we have actual sample data
-                        // instead of at BeanSchema inferral time
-                        fieldFormat = field.parseFormat(row[i], null);
-                    }
-                }
-                field.setFormat(fieldFormat);
-                Object val = field.castValue(row[i]);
-                if (null == val)
-                    continue;
-                Class annotatedFieldClass = aF.getRawType();
-                aF.fixAccess(true);
-                if (Number.class.isAssignableFrom(annotatedFieldClass)) {
-                    setNumberField(retVal, aF, (Number)val);
-                } else if (byte.class.equals(annotatedFieldClass)){
-                    aF.setValue(retVal, Byte.valueOf(((BigInteger)val).shortValue()+""));
-                } else if (short.class.equals(annotatedFieldClass)){
-                    aF.setValue(retVal, ((BigInteger)val).shortValue());
-                } else if (int.class.equals(annotatedFieldClass)){
-                    aF.setValue(retVal, ((BigInteger)val).intValue());
-                } else if (long.class.equals(annotatedFieldClass)){
-                    aF.setValue(retVal, ((BigInteger)val).longValue());
-                } else if (float.class.equals(annotatedFieldClass)){
-                    aF.setValue(retVal, ((BigDecimal)val).floatValue());
-                } else if (double.class.equals(annotatedFieldClass)){
-                    aF.setValue(retVal, ((BigDecimal)val).doubleValue());
-                } else if (UUID.class.equals(annotatedFieldClass)){
-                    aF.setValue(retVal, UUID.fromString((String)val));
-                } else if (Coordinate.class.isAssignableFrom(annotatedFieldClass)) {
-                    double[] arr = (double[])val;
-                    Coordinate coordinate = new Coordinate(arr[0], arr[1]);
-                    aF.setValue(retVal, coordinate);
-                } else if (field instanceof ObjectField){
-                    if (annotatedFieldClass.equals(JsonNode.class)) {
-                        aF.setValue(retVal, JsonUtil.getInstance().readValue(val.toString()));
-                    } else {
-                    	// this conversion method may also be used for the other field types
-                        aF.setValue(retVal, JsonUtil.getInstance().convertValue(val, annotatedFieldClass));
-                    }
-                } else {
-                    aF.setValue(retVal, val);
-                }
-            }
-            return retVal;
-        } catch (InstantiationException | IllegalAccessException e) {
-            throw new TableSchemaException(e);
-        }
-
-    }
-
-    private void setNumberField(T obj, AnnotatedField field, Number val) {
-        Class fClass = field.getRawType();
-        if (fClass.equals(BigDecimal.class)) {
-            BigDecimal big = new BigDecimal(val.toString());
-            field.setValue(obj, big);
-        } else if (fClass.equals(Float.class)) {
-            field.setValue(obj, (val.floatValue()));
-        } else if (fClass.equals(Double.class)) {
-            field.setValue(obj, (val.doubleValue()));
-        } else if (fClass.equals(Integer.class)) {
-            field.setValue(obj, (val.intValue()));
-        } else if (fClass.equals(Long.class)) {
-            field.setValue(obj, (val.longValue()));
-        } else if (fClass.equals(Short.class)) {
-            field.setValue(obj, (val.shortValue()));
-        } else if (fClass.equals(Byte.class)) {
-            field.setValue(obj, (val.byteValue()));
-        } else if (fClass.equals(BigInteger.class)) {
-            BigInteger big = new BigInteger(val.toString());
-            field.setValue(obj, big);
-        } else if (fClass.equals(AtomicInteger.class)) {
-            AtomicInteger ai = new AtomicInteger();
-            ai.set(val.intValue());
-            field.setValue(obj, ai);
-        } else if (fClass.equals(AtomicLong.class)) {
-            AtomicLong ai = new AtomicLong();
-            ai.set(val.longValue());
-            field.setValue(obj, ai);
-        } else if (fClass.equals(AtomicDouble.class)) {
-            AtomicDouble ai = new AtomicDouble();
-            ai.set(val.doubleValue());
-            field.setValue(obj, ai);
+            return codec.read(super.wrappedIterator.next());
+        } catch (RuntimeException ex) {
+            throw closeOnFailure(ex);
         }
     }
 }
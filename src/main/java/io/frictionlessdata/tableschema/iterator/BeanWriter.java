@@ -0,0 +1,131 @@
+package io.frictionlessdata.tableschema.iterator;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import io.frictionlessdata.tableschema.datasourceformat.DataSourceFormat;
+import io.frictionlessdata.tableschema.field.Field;
+import io.frictionlessdata.tableschema.schema.BeanSchema;
+import io.frictionlessdata.tableschema.util.JsonUtil;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVPrinter;
+
+import java.io.Writer;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Writer for instances of a Bean class as CSV or JSON, the counterpart of {@link BeanIterator}.
+ * Beans are taken from an Iterator or Stream and written one at a time, with each value formatted by its
+ * Schema field, so neither the Beans nor their String values have to be collected into a Table first.
+ *
+ * Columns and JSON properties are written in the order of the fields of the Schema. The Writer is
+ * flushed but not closed. A BeanWriter must not be shared between threads, see {@link BeanCodec}.
+ *
+ * @param <T> the Bean class
+ */
+public final class BeanWriter<T> {
+    private final BeanCodec<T> codec;
+    private final Field[] fields;
+
+    /**
+     * Create a BeanWriter using the Schema inferred from the Bean class
+     * @param type the Bean class
+     */
+    public BeanWriter(Class<T> type) {
+        this(type, BeanSchema.shared(type));
+    }
+
+    /**
+     * Create a BeanWriter that formats values with the fields of `schema`
+     * @param type the Bean class
+     * @param schema a Schema inferred from the Bean class
+     */
+    public BeanWriter(Class<T> type, BeanSchema schema) {
+        if ((null == type) || (null == schema))
+            throw new IllegalArgumentException("Bean class and Schema must not be null");
+        this.codec = BeanCodec.forSchema(type, schema);
+        this.fields = schema.getFields().toArray(new Field[0]);
+    }
+
+    /**
+     * Write the Beans as CSV with a header row, the `format` parameter decides on the CSV options.
+     * If it is null, the data will be written as RFC 4180 compliant CSV
+     * @param beans the Beans to write
+     * @param out the Writer to write to
+     * @param format the CSV format to use
+     */
+    public void writeCsv(Iterator<T> beans, Writer out, CSVFormat format) {
+        CSVFormat locFormat = (null != format)
+                ? format
+                : DataSourceFormat.getDefaultCsvFormat();
+        try {
+            CSVPrinter csvPrinter = new CSVPrinter(out, locFormat.withHeader(codec.getHeaders()));
+            while (beans.hasNext()) {
+                csvPrinter.printRecord((Object[]) codec.write(beans.next()));
+            }
+            csvPrinter.flush();
+        } catch (Exception ex) {
+            if (ex instanceof RuntimeException)
+                throw (RuntimeException)ex;
+            throw new RuntimeException(ex);
+        }
+    }
+
+    /**
+     * Write the Beans as CSV with a header row, see {@link #writeCsv(Iterator, Writer, CSVFormat)}
+     * @param beans the Beans to write
+     * @param out the Writer to write to
+     * @param format the CSV format to use
+     */
+    public void writeCsv(Stream<T> beans, Writer out, CSVFormat format) {
+        writeCsv(beans.iterator(), out, format);
+    }
+
+    /**
+     * Write the Beans as a JSON array of JSON objects, in the same way
+     * {@link io.frictionlessdata.tableschema.Table#write(Writer, DataSourceFormat.Format)} writes rows.
+     * @param beans the Beans to write
+     * @param out the Writer to write to
+     */
+    public void writeJson(Iterator<T> beans, Writer out) {
+        try (JsonGenerator generator = JsonUtil.getInstance().createGenerator(out, true)) {
+            generator.writeStartArray();
+            while (beans.hasNext()) {
+                Object[] values = codec.writeValues(beans.next());
+                generator.writeStartObject();
+                for (int i = 0; i < fields.length; i++) {
+                    generator.writeFieldName(fields[i].getName());
+                    generator.writeObject(fields[i].formatValueForJson(values[i]));
+                }
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+        } catch (Exception ex) {
+            if (ex instanceof RuntimeException)
+                throw (RuntimeException)ex;
+            throw new RuntimeException(ex);
+        }
+    }
+
+    /**
+     * Write the Beans as a JSON array of JSON objects, see {@link #writeJson(Iterator, Writer)}
+     * @param beans the Beans to write
+     * @param out the Writer to write to
+     */
+    public void writeJson(Stream<T> beans, Writer out) {
+        writeJson(beans.iterator(), out);
+    }
+
+    /**
+     * Write the Beans in the `dataFormat`, either CSV or JSON. CSV is written as RFC 4180 compliant CSV.
+     * @param beans the Beans to write
+     * @param out the Writer to write to
+     * @param dataFormat the format to use, either CSV or JSON.
+     */
+    public void write(Iterator<T> beans, Writer out, DataSourceFormat.Format dataFormat) {
+        if (dataFormat.equals(DataSourceFormat.Format.FORMAT_CSV)) {
+            writeCsv(beans, out, null);
+        } else if (dataFormat.equals(DataSourceFormat.Format.FORMAT_JSON)) {
+            writeJson(beans, out);
+        }
+    }
+}
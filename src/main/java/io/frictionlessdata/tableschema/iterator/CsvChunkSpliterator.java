@@ -0,0 +1,163 @@
+package io.frictionlessdata.tableschema.iterator;
+
+import io.frictionlessdata.tableschema.Table;
+import io.frictionlessdata.tableschema.datasourceformat.CsvChunk;
+import io.frictionlessdata.tableschema.datasourceformat.OpenedSource;
+import io.frictionlessdata.tableschema.exception.TableSchemaException;
+import io.frictionlessdata.tableschema.schema.Schema;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Spliterator over the rows of a CSV file that has been split into {@link CsvChunk}s. Splitting
+ * hands off whole chunks, so each chunk gets parsed and cast on one thread, and different chunks
+ * can be processed in parallel, e.g. by a parallel {@link java.util.stream.Stream} on a
+ * {@link java.util.concurrent.ForkJoinPool}.
+ *
+ * Chunks are opened lazily. Chunks that are read to the end are closed automatically, {@link #close()}
+ * closes chunks that were left half-read, e.g. by a short-circuiting Stream operation.
+ */
+public class CsvChunkSpliterator implements Spliterator<Object[]>, AutoCloseable {
+    private final List<CsvChunk> chunks;
+    private final String[] headers;
+    private final Schema schema;
+    private final Map<Integer, Integer> mapping;
+    private final boolean cast;
+    private final boolean ordered;
+    // shared between all Spliterators split off the same root
+    private final Set<OpenedSource> openSources;
+
+    // index of the next chunk to open and the index after the last chunk to read
+    private int index;
+    private final int fence;
+    private OpenedSource currentSource = null;
+    private TableIterator<Object[]> currentIterator = null;
+
+    /**
+     * Create a Spliterator over the rows of all chunks.
+     * @param table the Table the chunks belong to. Must be validated before.
+     * @param chunks the chunks of the data file, in file order
+     * @param cast whether to cast the rows according to the Table's Schema
+     * @param ordered whether the Spliterator should report the rows in file order
+     */
+    public CsvChunkSpliterator(Table table, List<CsvChunk> chunks, boolean cast, boolean ordered) throws Exception {
+        this(chunks, table.getHeaders(), table.getSchema(), table.getSchemaHeaderMapping(),
+                cast, ordered, ConcurrentHashMap.newKeySet(), 0, chunks.size());
+    }
+
+    private CsvChunkSpliterator(
+            List<CsvChunk> chunks,
+            String[] headers,
+            Schema schema,
+            Map<Integer, Integer> mapping,
+            boolean cast,
+            boolean ordered,
+            Set<OpenedSource> openSources,
+            int index,
+            int fence) {
+        this.chunks = chunks;
+        this.headers = headers;
+        this.schema = schema;
+        this.mapping = mapping;
+        this.cast = cast;
+        this.ordered = ordered;
+        this.openSources = openSources;
+        this.index = index;
+        this.fence = fence;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super Object[]> action) {
+        while (true) {
+            if ((null != currentIterator) && currentIterator.hasNext()) {
+                action.accept(currentIterator.next());
+                return true;
+            }
+            closeCurrent();
+            if (index >= fence)
+                return false;
+            openChunk(chunks.get(index++));
+        }
+    }
+
+    /**
+     * Split off the first half of the unopened chunks. A chunk that is already being read goes with
+     * them, so the returned Spliterator always covers the rows before the ones of this Spliterator.
+     */
+    @Override
+    public Spliterator<Object[]> trySplit() {
+        int remaining = fence - index;
+        int splitCount = (null != currentIterator) ? remaining + 1 : remaining;
+        if (splitCount < 2)
+            return null;
+        int mid = index + (remaining / 2);
+        CsvChunkSpliterator prefix = new CsvChunkSpliterator(
+                chunks, headers, schema, mapping, cast, ordered, openSources, index, mid);
+        prefix.currentSource = this.currentSource;
+        prefix.currentIterator = this.currentIterator;
+        this.currentSource = null;
+        this.currentIterator = null;
+        this.index = mid;
+        return prefix;
+    }
+
+    /**
+     * Estimates the size as the number of bytes left to read, which is an upper bound for the number of rows.
+     */
+    @Override
+    public long estimateSize() {
+        long size = 0;
+        for (int i = index; i < fence; i++) {
+            size += chunks.get(i).getLength();
+        }
+        return (null != currentIterator) ? size + 1 : size;
+    }
+
+    @Override
+    public int characteristics() {
+        return ordered ? (ORDERED | NONNULL | IMMUTABLE) : (NONNULL | IMMUTABLE);
+    }
+
+    /**
+     * Close all chunks that are still open, in this and all Spliterators split from the same root.
+     */
+    @Override
+    public void close() {
+        for (OpenedSource source : openSources) {
+            closeSource(source);
+        }
+    }
+
+    private void openChunk(CsvChunk chunk) {
+        try {
+            currentSource = chunk.open();
+        } catch (Exception ex) {
+            throw new TableSchemaException(ex);
+        }
+        openSources.add(currentSource);
+        currentIterator = new TableIterator<>(headers, schema, mapping, currentSource.getRowIterator(), false, cast);
+    }
+
+    private void closeCurrent() {
+        if (null != currentSource) {
+            closeSource(currentSource);
+            currentSource = null;
+            currentIterator = null;
+        }
+    }
+
+    private void closeSource(OpenedSource source) {
+        try {
+            source.close();
+        } catch (Exception ex) {
+            throw new TableSchemaException(ex);
+        } finally {
+            openSources.remove(source);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package io.frictionlessdata.tableschema.iterator;
+
+import io.frictionlessdata.tableschema.exception.TableSchemaException;
+import io.frictionlessdata.tableschema.field.Field;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * One row of a Table that keeps the values as read from the data source and casts a value only
+ * when it is asked for. Cast values are kept, so each value is cast at most once. Consumers that
+ * look at a few fields per row, or at the raw values of most fields, don't pay for casting the rest.
+ *
+ * As values are cast on access, an {@link io.frictionlessdata.tableschema.exception.InvalidCastException}
+ * is thrown by {@link #get(int)} instead of while iterating.
+ *
+ * LazyRows are not thread-safe.
+ */
+public final class LazyRow {
+    private static final Object NOT_CAST = new Object();
+
+    private final String[] headers;
+    // null if the Table has no Schema, values are then returned as read
+    private final Field[] fields;
+    // data column of each field, null if the row is already in field order
+    private final int[] columns;
+    private final String[] rawRow;
+    private final Object[] values;
+
+    LazyRow(String[] headers, Field[] fields, int[] columns, String[] rawRow) {
+        this.headers = headers;
+        this.fields = fields;
+        this.columns = columns;
+        this.rawRow = rawRow;
+        this.values = new Object[headers.length];
+        Arrays.fill(this.values, NOT_CAST);
+    }
+
+    /**
+     * Returns the number of fields of this row
+     * @return number of fields
+     */
+    public int size() {
+        return headers.length;
+    }
+
+    /**
+     * Returns the names of the fields of this row
+     * @return field names in field order
+     */
+    public String[] getHeaders() {
+        return headers;
+    }
+
+    /**
+     * Returns the value of the field at `index`, cast according to the Schema on first access.
+     * @param index index of the field
+     * @return the cast value, or the raw value if there is no Schema
+     */
+    public Object get(int index) {
+        Object value = values[index];
+        if (value == NOT_CAST) {
+            int column = getColumn(index);
+            if (column < 0) {
+                value = null;
+            } else {
+                value = (null == fields) ? rawRow[column] : fields[index].castValue(rawRow[column]);
+            }
+            values[index] = value;
+        }
+        return value;
+    }
+
+    /**
+     * Returns the value of the field named `fieldName`, cast according to the Schema on first access.
+     * @param fieldName name of the field
+     * @return the cast value, or the raw value if there is no Schema
+     */
+    public Object get(String fieldName) {
+        return get(indexOf(fieldName));
+    }
+
+    /**
+     * Returns the value of the field at `index` as read from the data source, without casting it.
+     * @param index index of the field
+     * @return the raw value, null if the data has no value for the field
+     */
+    public String getRaw(int index) {
+        int column = getColumn(index);
+        return (column < 0) ? null : rawRow[column];
+    }
+
+    /**
+     * Returns the value of the field named `fieldName` as read from the data source, without casting it.
+     * @param fieldName name of the field
+     * @return the raw value, null if the data has no value for the field
+     */
+    public String getRaw(String fieldName) {
+        return getRaw(indexOf(fieldName));
+    }
+
+    /**
+     * Casts all values that have not been cast yet.
+     * @return the cast values in field order
+     */
+    public Object[] toArray() {
+        Object[] row = new Object[headers.length];
+        for (int i = 0; i < row.length; i++) {
+            row[i] = get(i);
+        }
+        return row;
+    }
+
+    /**
+     * Casts all values that have not been cast yet.
+     * @return Map of field name to cast value, in field order
+     */
+    public Map<String, Object> toMap() {
+        Map<String, Object> row = new LinkedHashMap<>();
+        for (int i = 0; i < headers.length; i++) {
+            row.put(headers[i], get(i));
+        }
+        return row;
+    }
+
+    /**
+     * Set the value of a field that has already been cast elsewhere, so it doesn't get cast again.
+     */
+    void setValue(int index, Object value) {
+        values[index] = value;
+    }
+
+    /**
+     * Returns the data column of the field at `index`, -1 if the data has no value for it.
+     * This happens for JSON objects that leave out null values.
+     */
+    private int getColumn(int index) {
+        if ((index < 0) || (index >= headers.length))
+            throw new IndexOutOfBoundsException("Field "+index+" out of range for "+headers.length+" fields");
+        int column = (null != columns) ? columns[index] : index;
+        return (column < rawRow.length) ? column : -1;
+    }
+
+    private int indexOf(String fieldName) {
+        for (int i = 0; i < headers.length; i++) {
+            if (headers[i].equals(fieldName))
+                return i;
+        }
+        throw new TableSchemaException("No such field as: " + fieldName + ".");
+    }
+}
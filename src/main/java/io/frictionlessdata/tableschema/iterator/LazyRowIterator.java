@@ -0,0 +1,27 @@
+package io.frictionlessdata.tableschema.iterator;
+
+import io.frictionlessdata.tableschema.Table;
+
+import java.util.List;
+
+/**
+ * Iterator over the rows of a Table as {@link LazyRow}s, which cast their values on first access
+ * instead of all at once while iterating.
+ */
+public class LazyRowIterator extends TableIterator<LazyRow> {
+
+    public LazyRowIterator(Table table) throws Exception {
+        this(table, null, null);
+    }
+
+    /**
+     * @param table The Table to iterate data on
+     * @param fieldNames names of the fields to return, null for all fields
+     * @param filter condition on the rows to return, null for all rows
+     * @throws Exception in case header parsing or Schema validation fails, or a field does not exist
+     */
+    public LazyRowIterator(Table table, List<String> fieldNames, RowFilter filter) throws Exception {
+        super(table, fieldNames, filter, false, false, true, false);
+        this.lazy = true;
+    }
+}
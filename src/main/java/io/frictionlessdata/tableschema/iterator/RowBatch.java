@@ -0,0 +1,127 @@
+package io.frictionlessdata.tableschema.iterator;
+
+import io.frictionlessdata.tableschema.exception.TableSchemaException;
+
+/**
+ * A number of consecutive rows of a Table, cast according to the Schema. Values are kept per field,
+ * so a loop over one field of all rows in the batch runs over a single array.
+ *
+ * A {@link RowBatchIterator} reuses the same RowBatch for every batch it returns, so the values are
+ * only valid until the next call to {@link RowBatchIterator#next()}. Copy them to keep them longer.
+ * RowBatches are not thread-safe.
+ */
+public final class RowBatch {
+    private final String[] headers;
+    // values by field, then by row
+    final Object[][] columns;
+    private int size = 0;
+
+    RowBatch(String[] headers, int fieldCount, int capacity) {
+        this.headers = headers;
+        this.columns = new Object[fieldCount][capacity];
+    }
+
+    /**
+     * Returns the number of rows in this batch. Only the last batch of a Table can have fewer rows
+     * than the capacity.
+     * @return number of rows
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the maximum number of rows in this batch
+     * @return the batch size
+     */
+    public int capacity() {
+        return (columns.length == 0) ? 0 : columns[0].length;
+    }
+
+    /**
+     * Returns the names of the fields of the rows
+     * @return field names in field order
+     */
+    public String[] getHeaders() {
+        return headers;
+    }
+
+    /**
+     * Returns the number of fields of the rows
+     * @return number of fields
+     */
+    public int getFieldCount() {
+        return columns.length;
+    }
+
+    /**
+     * Returns the value of the field at `field` in row `row` of this batch
+     * @param row index of the row in this batch
+     * @param field index of the field
+     * @return the cast value, or the raw value if there is no Schema
+     */
+    public Object get(int row, int field) {
+        checkRow(row);
+        return columns[field][row];
+    }
+
+    /**
+     * Returns the value of the field named `fieldName` in row `row` of this batch
+     * @param row index of the row in this batch
+     * @param fieldName name of the field
+     * @return the cast value, or the raw value if there is no Schema
+     */
+    public Object get(int row, String fieldName) {
+        return get(row, indexOf(fieldName));
+    }
+
+    /**
+     * Returns the values of the field at `field` for all rows of this batch. The array is not copied,
+     * it has {@link #capacity()} entries, of which the first {@link #size()} are valid.
+     * @param field index of the field
+     * @return the values of the field, by row
+     */
+    public Object[] getColumn(int field) {
+        return columns[field];
+    }
+
+    /**
+     * Returns the values of the field named `fieldName` for all rows of this batch, see {@link #getColumn(int)}
+     * @param fieldName name of the field
+     * @return the values of the field, by row
+     */
+    public Object[] getColumn(String fieldName) {
+        return getColumn(indexOf(fieldName));
+    }
+
+    /**
+     * Returns a copy of the values of row `row` of this batch
+     * @param row index of the row in this batch
+     * @return the values in field order
+     */
+    public Object[] getRow(int row) {
+        checkRow(row);
+        Object[] values = new Object[columns.length];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = columns[i][row];
+        }
+        return values;
+    }
+
+    void setSize(int size) {
+        this.size = size;
+    }
+
+    private void checkRow(int row) {
+        if ((row < 0) || (row >= size))
+            throw new IndexOutOfBoundsException("Row "+row+" out of range for "+size+" rows");
+    }
+
+    private int indexOf(String fieldName) {
+        for (int i = 0; i < headers.length; i++) {
+            if (headers[i].equals(fieldName))
+                return i;
+        }
+        throw new TableSchemaException("No such field as: " + fieldName + ".");
+    }
+}
@@ -0,0 +1,67 @@
+package io.frictionlessdata.tableschema.iterator;
+
+import io.frictionlessdata.tableschema.Table;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Iterator over the rows of a Table in {@link RowBatch}es of a fixed number of rows. The rows of a batch
+ * are read first and then cast one field at a time, and the same RowBatch is refilled on every call
+ * to {@link #next()}, so iterating allocates no row arrays.
+ */
+public class RowBatchIterator extends TableIterator<RowBatch> {
+    private final int batchSize;
+    private RowBatch batch = null;
+    private String[][] rows = null;
+
+    public RowBatchIterator(Table table, int batchSize) throws Exception {
+        this(table, batchSize, null, null);
+    }
+
+    /**
+     * @param table The Table to iterate data on
+     * @param batchSize maximum number of rows per batch
+     * @param fieldNames names of the fields to return, null for all fields
+     * @param filter condition on the rows to return, null for all rows
+     * @throws Exception in case header parsing or Schema validation fails, or a field does not exist
+     */
+    public RowBatchIterator(Table table, int batchSize, List<String> fieldNames, RowFilter filter) throws Exception {
+        super(table, fieldNames, filter, false, false, true, false);
+        if (batchSize < 1)
+            throw new IllegalArgumentException("Batch size must be at least 1, was " + batchSize);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Returns the next batch of rows. The RowBatch returned is the same for every call, its values
+     * are overwritten by the next call.
+     * @return the batch, holding between one and `batchSize` rows
+     */
+    @Override
+    public RowBatch next() {
+        if (!hasNext())
+            throw new NoSuchElementException();
+        if (null == batch) {
+            batch = new RowBatch(headers, getFieldCount(), batchSize);
+            rows = new String[batchSize][];
+        }
+        int size = 0;
+        try {
+            while ((size < batchSize) && hasNext()) {
+                rows[size++] = nextRow();
+            }
+            for (int i = 0; i < batch.columns.length; i++) {
+                castColumn(rows, size, i, batch.columns[i]);
+                // don't hold on to values of the batch before
+                Arrays.fill(batch.columns[i], size, batchSize, null);
+            }
+        } catch (RuntimeException ex) {
+            throw closeOnFailure(ex);
+        }
+        Arrays.fill(rows, 0, size, null);
+        batch.setSize(size);
+        return batch;
+    }
+}
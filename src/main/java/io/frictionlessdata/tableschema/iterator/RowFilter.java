@@ -0,0 +1,153 @@
+package io.frictionlessdata.tableschema.iterator;
+
+import io.frictionlessdata.tableschema.exception.TableSchemaException;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Condition on the values of a row, expressed against the fields of a Table. Passed to
+ * {@link io.frictionlessdata.tableschema.Table#iterator(List, RowFilter)}, it lets the iterator skip
+ * rows before they are cast: only the fields the condition refers to are cast to test a row, and the
+ * other fields are cast for matching rows only.
+ *
+ * Conditions on single fields are combined with {@link #and(RowFilter...)}, {@link #or(RowFilter...)}
+ * and {@link #not(RowFilter)}, for example
+ * <pre>
+ *   RowFilter.and(
+ *       RowFilter.field("age", (age) -> ((BigInteger)age).intValue() > 30),
+ *       RowFilter.rawField("country", "FR"::equals))
+ * </pre>
+ * Fields of operands are only cast if the outcome is not yet decided by the operands before.
+ */
+public abstract class RowFilter {
+
+    /**
+     * Condition on the value of a field, cast according to the Schema. Without a Schema, the
+     * condition gets the value as read from the data.
+     * @param fieldName name of the field
+     * @param condition test for the value, which might be null
+     * @return the filter
+     */
+    public static RowFilter field(String fieldName, Predicate<Object> condition) {
+        return new FieldFilter(fieldName, condition, true);
+    }
+
+    /**
+     * Condition on the value of a field as read from the data, without casting it.
+     * @param fieldName name of the field
+     * @param condition test for the value, which might be null
+     * @return the filter
+     */
+    public static RowFilter rawField(String fieldName, Predicate<String> condition) {
+        return new FieldFilter(fieldName, (value) -> condition.test((String)value), false);
+    }
+
+    /**
+     * Matches rows that match all of `filters`
+     * @param filters the conditions to combine
+     * @return the filter
+     */
+    public static RowFilter and(RowFilter... filters) {
+        return new CompositeFilter(filters, true);
+    }
+
+    /**
+     * Matches rows that match any of `filters`
+     * @param filters the conditions to combine
+     * @return the filter
+     */
+    public static RowFilter or(RowFilter... filters) {
+        return new CompositeFilter(filters, false);
+    }
+
+    /**
+     * Matches rows that do not match `filter`
+     * @param filter the condition to negate
+     * @return the filter
+     */
+    public static RowFilter not(RowFilter filter) {
+        return new NegatedFilter(filter);
+    }
+
+    /**
+     * Resolve field names to indexes into `headers` once, so testing a row takes no lookups by name.
+     * @param headers the field names of the Table, in Schema order
+     * @param usedFields collects the indexes of all fields this filter refers to
+     * @return the condition on a row
+     */
+    abstract Predicate<RowValues> compile(List<String> headers, Set<Integer> usedFields);
+
+    /**
+     * Access to the values of the row being tested, by index of the field in the Table headers.
+     */
+    interface RowValues {
+        Object getValue(int field);
+
+        String getRawValue(int field);
+    }
+
+    private static class FieldFilter extends RowFilter {
+        private final String fieldName;
+        private final Predicate<Object> condition;
+        private final boolean cast;
+
+        FieldFilter(String fieldName, Predicate<Object> condition, boolean cast) {
+            if ((null == fieldName) || (null == condition))
+                throw new IllegalArgumentException("Field name and condition must not be null");
+            this.fieldName = fieldName;
+            this.condition = condition;
+            this.cast = cast;
+        }
+
+        @Override
+        Predicate<RowValues> compile(List<String> headers, Set<Integer> usedFields) {
+            int field = headers.indexOf(fieldName);
+            if (field < 0)
+                throw new TableSchemaException("No such field as: " + fieldName + ".");
+            usedFields.add(field);
+            if (cast)
+                return (row) -> condition.test(row.getValue(field));
+            return (row) -> condition.test(row.getRawValue(field));
+        }
+    }
+
+    private static class CompositeFilter extends RowFilter {
+        private final List<RowFilter> filters;
+        private final boolean all;
+
+        CompositeFilter(RowFilter[] filters, boolean all) {
+            if (filters.length == 0)
+                throw new IllegalArgumentException("At least one filter is needed");
+            this.filters = Arrays.asList(filters);
+            this.all = all;
+        }
+
+        @Override
+        Predicate<RowValues> compile(List<String> headers, Set<Integer> usedFields) {
+            Predicate<RowValues> predicate = filters.get(0).compile(headers, usedFields);
+            for (int i = 1; i < filters.size(); i++) {
+                Predicate<RowValues> next = filters.get(i).compile(headers, usedFields);
+                predicate = all ? predicate.and(next) : predicate.or(next);
+            }
+            return predicate;
+        }
+    }
+
+    private static class NegatedFilter extends RowFilter {
+        private final RowFilter filter;
+
+        NegatedFilter(RowFilter filter) {
+            if (null == filter)
+                throw new IllegalArgumentException("Filter must not be null");
+            this.filter = filter;
+        }
+
+        @Override
+        Predicate<RowValues> compile(List<String> headers, Set<Integer> usedFields) {
+            return filter.compile(headers, usedFields).negate();
+        }
+    }
+}
@@ -15,7 +15,12 @@ public class SimpleTableIterator extends TableIterator<String[]> {
 
     @Override
     public String[] next() {
-        String[] row = this.wrappedIterator.next();
+        String[] row;
+        try {
+            row = this.wrappedIterator.next();
+        } catch (RuntimeException ex) {
+            throw closeOnFailure(ex);
+        }
         if (null != schema) {
             String[] newRow = new String[row.length];
             for (int i = 0; i < row.length; i++) {
@@ -1,28 +1,54 @@
 package io.frictionlessdata.tableschema.iterator;
 
 import io.frictionlessdata.tableschema.Table;
+import io.frictionlessdata.tableschema.datasourceformat.OpenedSource;
+import io.frictionlessdata.tableschema.exception.TableSchemaException;
 import io.frictionlessdata.tableschema.field.Field;
 import io.frictionlessdata.tableschema.schema.Schema;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Predicate;
 
 /**
- *
- *
+ * Iterator over the rows of a Table. File-backed data is read while iterating, and the file is
+ * released when the end of the data is reached or reading a row fails. Iterators that are not
+ * read to the end must be closed.
  */
-public class TableIterator<T> implements Iterator<T> {
+public class TableIterator<T> implements Iterator<T>, AutoCloseable {
     String[] headers = null;
     Schema schema = null;
     Iterator<String[]> wrappedIterator = null;
+    // the opened data source, null once closed or if the rows were read elsewhere
+    OpenedSource source = null;
     boolean keyed = false;
     boolean extended = false;
     boolean cast = true;
     boolean relations = false;
+    boolean lazy = false;
     Map<Integer, Integer> mapping = null;
     int index = 0;
 
+    // compiled row plan, built on the first call to next()
+    private Field[] fields = null;
+    private int[] columnMapping = null;
+    private RowMode rowMode = null;
+
+    // Schema fields of a projection, or data columns of a projection without Schema.
+    // Both null if iterating over all fields
+    private Field[] projectedFields = null;
+    private int[] projectedColumns = null;
+
+    // compiled row filter and the row it is testing, null if iterating over all rows
+    private Predicate<RowFilter.RowValues> filter = null;
+    private FilterRow filterRow = null;
+    private String[] matchedRow = null;
 
     TableIterator() {}
 
@@ -37,25 +63,185 @@ public class TableIterator<T> implements Iterator<T> {
             boolean cast,
             boolean relations) throws Exception{
 
-        this.init(table);
+        this(table, null, keyed, extended, cast, relations);
+    }
+
+    /**
+     * Iterates over the fields named in `fieldNames` only, in the order given. Rows contain just these
+     * fields, the other columns are not cast, and sources that can skip columns while reading do not
+     * even decode them.
+     * @param table The Table to iterate data on
+     * @param fieldNames names of the fields to return, null for all fields
+     * @throws Exception in case header parsing or Schema validation fails, or a field does not exist
+     */
+    public TableIterator(
+            Table table,
+            List<String> fieldNames,
+            boolean keyed,
+            boolean extended,
+            boolean cast,
+            boolean relations) throws Exception{
+        this(table, fieldNames, null, keyed, extended, cast, relations);
+    }
+
+    /**
+     * Iterates over the rows matching `filter` only, returning the fields named in `fieldNames`.
+     * To test a row, only the fields `filter` refers to are cast. All other fields are
+     * cast for matching rows only.
+     * @param table The Table to iterate data on
+     * @param fieldNames names of the fields to return, null for all fields
+     * @param filter condition on the rows to return, null for all rows
+     * @throws Exception in case header parsing or Schema validation fails, or a field does not exist
+     */
+    public TableIterator(
+            Table table,
+            List<String> fieldNames,
+            RowFilter filter,
+            boolean keyed,
+            boolean extended,
+            boolean cast,
+            boolean relations) throws Exception{
+
+        this.init(table, fieldNames, filter);
         this.keyed = keyed;
         this.extended = extended;
         this.cast = cast;
         this.relations = relations;
     }
 
+    /**
+     * Iterates over rows that were read elsewhere, for example from one chunk of a split
+     * file. Headers, Schema and header mapping are used as passed in, nothing gets validated.
+     * If `rows` is null, the TableIterator can only be used to convert rows via {@link #convertRow(String[])}
+     */
+    TableIterator(
+            String[] headers,
+            Schema schema,
+            Map<Integer, Integer> mapping,
+            Iterator<String[]> rows,
+            boolean keyed,
+            boolean cast) {
+        this.headers = headers;
+        this.schema = schema;
+        this.mapping = mapping;
+        this.wrappedIterator = rows;
+        this.keyed = keyed;
+        this.cast = cast;
+    }
+
+    /**
+     * Opens the data source once and takes the data rows from the same parse that
+     * read the headers. Header mapping and validation use the headers cached by
+     * the DataSourceFormat, so starting to iterate takes only one pass over the data.
+     * @param table The Table to iterate data on
+     * @throws Exception in case header parsing or Schema validation fails
+     */
     void init(Table table) throws Exception{
-        this.mapping = table.getSchemaHeaderMapping();
-        this.headers = table.getHeaders();
-        this.schema = table.getSchema();
-        table.validate();
-        this.wrappedIterator = table.getDataSourceFormat().iterator();
+        init(table, null, null);
+    }
+
+    void init(Table table, List<String> fieldNames, RowFilter filter) throws Exception{
+        OpenedSource source = table.getDataSourceFormat().open();
+        try {
+            this.mapping = table.getSchemaHeaderMapping();
+            this.headers = table.getHeaders();
+            this.schema = table.getSchema();
+            table.validate();
+            Set<Integer> dataColumns = new TreeSet<>();
+            // the filter refers to all fields, so compile it before projecting
+            if (null != filter) {
+                compileFilter(filter, dataColumns);
+            }
+            if (null != fieldNames) {
+                project(fieldNames, dataColumns);
+                source.project(dataColumns.stream().mapToInt(Integer::intValue).toArray());
+            }
+        } catch (Exception ex) {
+            source.close();
+            throw ex;
+        }
+        this.source = source;
+        this.wrappedIterator = source.getRowIterator();
+    }
+
+    /**
+     * Resolve the fields of `filter` and collect the data columns it needs.
+     */
+    private void compileFilter(RowFilter filter, Set<Integer> dataColumns) {
+        Set<Integer> usedFields = new TreeSet<>();
+        this.filter = filter.compile(Arrays.asList(this.headers), usedFields);
+        int[] columns = new int[this.headers.length];
+        Field[] fields = new Field[this.headers.length];
+        int columnCount = 0;
+        for (int i = 0; i < this.headers.length; i++) {
+            Integer mappedKey = this.mapping.get(i);
+            columns[i] = (null != mappedKey) ? mappedKey : -1;
+            if (null != this.schema)
+                fields[i] = this.schema.getFields().get(i);
+            if (usedFields.contains(i) && (null != mappedKey)) {
+                dataColumns.add(mappedKey);
+                columnCount = Math.max(columnCount, mappedKey + 1);
+            }
+        }
+        this.filterRow = new FilterRow(columns, fields, columnCount);
+    }
+
+    /**
+     * Narrow headers and header mapping to the fields named in `fieldNames` and collect
+     * the data columns they need.
+     */
+    private void project(List<String> fieldNames, Set<Integer> dataColumns) {
+        List<String> allHeaders = Arrays.asList(this.headers);
+        String[] projectedHeaders = new String[fieldNames.size()];
+        Map<Integer, Integer> projectedMapping = new HashMap<>();
+        Field[] fields = new Field[fieldNames.size()];
+        for (int i = 0; i < fieldNames.size(); i++) {
+            String name = fieldNames.get(i);
+            int index = allHeaders.indexOf(name);
+            if (index < 0)
+                throw new TableSchemaException("No such field as: " + name + ".");
+            Integer mappedKey = this.mapping.get(index);
+            projectedHeaders[i] = name;
+            projectedMapping.put(i, mappedKey);
+            if (null != mappedKey)
+                dataColumns.add(mappedKey);
+            if (null != this.schema)
+                fields[i] = this.schema.getFields().get(index);
+        }
+        this.headers = projectedHeaders;
+        this.mapping = projectedMapping;
+        if (null != this.schema) {
+            this.projectedFields = fields;
+        } else {
+            this.projectedColumns = new int[fieldNames.size()];
+            for (int i = 0; i < fieldNames.size(); i++) {
+                Integer mappedKey = projectedMapping.get(i);
+                this.projectedColumns[i] = (null != mappedKey) ? mappedKey : -1;
+            }
+        }
     }
 
 
     @Override
     public boolean hasNext() {
-        return this.wrappedIterator.hasNext();
+        try {
+            boolean hasNext = (null == this.filter) ? this.wrappedIterator.hasNext() : findMatchingRow();
+            if (!hasNext)
+                close();
+            return hasNext;
+        } catch (RuntimeException ex) {
+            throw closeOnFailure(ex);
+        }
+    }
+
+    private boolean findMatchingRow() {
+        while ((null == this.matchedRow) && this.wrappedIterator.hasNext()) {
+            String[] row = this.wrappedIterator.next();
+            this.filterRow.reset(row);
+            if (this.filter.test(this.filterRow))
+                this.matchedRow = row;
+        }
+        return (null != this.matchedRow);
     }
 
     @Override
@@ -65,60 +251,166 @@ public class TableIterator<T> implements Iterator<T> {
 
     @Override
     public T next() {
-        String[] row = this.wrappedIterator.next();
-        int rowLength = row.length;
-        if (null != this.schema) {
-            rowLength = Math.max(row.length, this.schema.getFields().size());
+        try {
+            return convertRow(nextRow());
+        } catch (RuntimeException ex) {
+            throw closeOnFailure(ex);
         }
-        Map<String, Object> keyedRow = new HashMap<>();
-        Object[] extendedRow;
-        Object[] castRow = new Object[rowLength];
-        Object[] plainRow = new Object[rowLength];
+    }
 
+    /**
+     * Releases the underlying file or stream if the rows have not been read to the end.
+     * Closing an iterator twice or after the end of the data has been reached does nothing.
+     */
+    @Override
+    public void close() {
+        if (null == this.source)
+            return;
+        OpenedSource openedSource = this.source;
+        this.source = null;
+        try {
+            openedSource.close();
+        } catch (Exception ex) {
+            throw new TableSchemaException(ex);
+        }
+    }
+
+    /**
+     * Close this iterator after reading or converting a row failed, as the caller
+     * won't read any further.
+     * @param ex the failure
+     * @return `ex`, for rethrowing
+     */
+    RuntimeException closeOnFailure(RuntimeException ex) {
+        try {
+            close();
+        } catch (RuntimeException closeEx) {
+            ex.addSuppressed(closeEx);
+        }
+        return ex;
+    }
+
+    /**
+     * Returns the next row matching the filter as read from the data source, without converting it.
+     */
+    String[] nextRow() {
+        if (null == this.filter)
+            return this.wrappedIterator.next();
+        if (!hasNext())
+            throw new NoSuchElementException();
+        String[] row = this.matchedRow;
+        this.matchedRow = null;
+        return row;
+    }
+
+    /**
+     * Returns the number of fields in the rows returned by this iterator
+     */
+    int getFieldCount() {
+        if (null == this.schema)
+            return this.headers.length;
+        return (null != this.projectedFields) ? this.projectedFields.length : this.schema.getFields().size();
+    }
+
+    /**
+     * Cast the values of the i-th field of the first `size` rows into `column`. Casting a batch of rows
+     * one field at a time keeps the loop on a single Field, instead of switching Field types per cell.
+     */
+    void castColumn(String[][] rows, int size, int i, Object[] column) {
+        if (null == this.schema) {
+            int mappedKey = (null != this.projectedColumns) ? this.projectedColumns[i] : i;
+            for (int r = 0; r < size; r++) {
+                String[] row = rows[r];
+                column[r] = ((mappedKey < 0) || (mappedKey >= row.length)) ? null : row[mappedKey];
+            }
+            return;
+        }
+        if (null == this.rowMode) {
+            compileRowPlan();
+        }
+        if (null != this.filterRow) {
+            for (int r = 0; r < size; r++) {
+                column[r] = castCell(rows[r], i);
+            }
+            return;
+        }
+        Field field = this.fields[i];
+        int mappedKey = this.columnMapping[i];
+        for (int r = 0; r < size; r++) {
+            String[] row = rows[r];
+            column[r] = ((mappedKey < 0) || (mappedKey >= row.length)) ? null : field.castValue(row[mappedKey]);
+        }
+    }
+
+    /**
+     * Turn a row as read from the data source into a row as returned by this iterator.
+     * @param row the row as String array
+     * @return the row, cast, keyed or extended according to the settings of this iterator
+     */
+    T convertRow(String[] row) {
         // If there's a schema, attempt to cast the row.
         if(this.schema != null){
-            for(int i = 0; i < rowLength; i++){
-                Field field = this.schema.getFields().get(i);
-                Integer mappedKey = mapping.get(i);
-                Object val = null;
-                // null keys can happen for JSON arrays of JSON objects because
-                // null values will lead to missing entries
-                if (null != mappedKey) {
-                    // if the last column(s) contain nulls, prevent an ArrayIndexOutOfBoundsException
-                    if (mappedKey < row.length) {
-                        String rawVal = row[mappedKey];
-                        val = field.castValue(rawVal);
+            if (null == this.rowMode) {
+                compileRowPlan();
+            }
+            int rowLength = (null != this.projectedFields)
+                    ? this.fields.length
+                    : Math.max(row.length, this.fields.length);
+
+            switch (this.rowMode) {
+                case LAZY: {
+                    LazyRow lazyRow = new LazyRow(this.headers, this.fields, this.columnMapping, row);
+                    if (null != this.filterRow) {
+                        for (int i = 0; i < this.fields.length; i++) {
+                            int mappedKey = this.columnMapping[i];
+                            if ((mappedKey >= 0) && this.filterRow.isCast(row, mappedKey))
+                                lazyRow.setValue(i, this.filterRow.castValues[mappedKey]);
+                        }
                     }
+                    return (T)lazyRow;
                 }
-                if (!extended && keyed) {
-                    keyedRow.put(this.headers[i], val);
-                } else if (cast || extended){
-                    castRow[i] = val;
-                } else {
-                    plainRow[i] = field.formatValueAsString(val);
+                case KEYED: {
+                    Map<String, Object> keyedRow = new HashMap<>();
+                    for (int i = 0; i < rowLength; i++) {
+                        keyedRow.put(this.headers[i], castCell(row, i));
+                    }
+                    return (T)keyedRow;
+                }
+                case PLAIN: {
+                    Object[] plainRow = new Object[rowLength];
+                    for (int i = 0; i < rowLength; i++) {
+                        plainRow[i] = this.fields[i].formatValueAsString(castCell(row, i));
+                    }
+                    return (T)plainRow;
+                }
+                default: {
+                    Object[] castRow = new Object[rowLength];
+                    for (int i = 0; i < rowLength; i++) {
+                        castRow[i] = castCell(row, i);
+                    }
+                    if (this.rowMode == RowMode.EXTENDED) {
+                        Object[] extendedRow = new Object[]{index, this.headers, castRow};
+                        index++;
+                        return (T)extendedRow;
+                    }
+                    return (T)castRow;
                 }
-            }
-
-            if (extended){
-                extendedRow = new Object[]{index, this.headers, castRow};
-                index++;
-                return (T)extendedRow;
-            } else if(keyed){
-                return (T)keyedRow;
-            } else if(cast){
-                return (T)castRow;
-            } else{
-                return (T)plainRow;
             }
         }else{
             // Enter here if no Schema has been defined.
+            if (null != this.projectedColumns) {
+                row = projectRow(row);
+            }
+            if (lazy) {
+                return (T)new LazyRow(this.headers, null, null, row);
+            }
             if(extended){
-                extendedRow = new Object[]{index, this.headers, row};
+                Object[] extendedRow = new Object[]{index, this.headers, row};
                 index++;
                 return (T)extendedRow;
 
             }else if(keyed){
-                keyedRow = new HashMap();
+                Map<String, Object> keyedRow = new HashMap();
                 for(int i=0; i<row.length; i++){
                     keyedRow.put(this.headers[i], row[i]);
                 }
@@ -129,4 +421,119 @@ public class TableIterator<T> implements Iterator<T> {
             }
         }
     }
+
+    private String[] projectRow(String[] row) {
+        String[] projectedRow = new String[this.projectedColumns.length];
+        for (int i = 0; i < projectedRow.length; i++) {
+            int column = this.projectedColumns[i];
+            if ((column >= 0) && (column < row.length))
+                projectedRow[i] = row[column];
+        }
+        return projectedRow;
+    }
+
+    /**
+     * Cast the value for the i-th Schema field using the compiled row plan.
+     */
+    private Object castCell(String[] row, int i) {
+        int mappedKey = this.columnMapping[i];
+        // negative keys mark declared columns not found in the data. This can happen
+        // for JSON arrays of JSON objects because null values will lead to missing entries.
+        // If the last column(s) contain nulls, prevent an ArrayIndexOutOfBoundsException
+        if ((mappedKey < 0) || (mappedKey >= row.length)) {
+            return null;
+        }
+        // reuse the values that were cast to test the row
+        if ((null != this.filterRow) && this.filterRow.isCast(row, mappedKey)) {
+            return this.filterRow.castValues[mappedKey];
+        }
+        return this.fields[i].castValue(row[mappedKey]);
+    }
+
+    /**
+     * Resolve everything that doesn't change from row to row once per iterator: the Schema
+     * fields as an array, the header mapping as an int array and the kind of row to return.
+     * Per-row work is then only the cast calls and the allocation of the returned row.
+     */
+    private void compileRowPlan() {
+        this.fields = (null != this.projectedFields)
+                ? this.projectedFields
+                : this.schema.getFields().toArray(new Field[0]);
+        this.columnMapping = new int[this.fields.length];
+        for (int i = 0; i < this.fields.length; i++) {
+            Integer mappedKey = this.mapping.get(i);
+            this.columnMapping[i] = (null != mappedKey) ? mappedKey : -1;
+        }
+        if (lazy) {
+            this.rowMode = RowMode.LAZY;
+        } else if (extended) {
+            this.rowMode = RowMode.EXTENDED;
+        } else if (keyed) {
+            this.rowMode = RowMode.KEYED;
+        } else if (cast) {
+            this.rowMode = RowMode.CAST;
+        } else {
+            this.rowMode = RowMode.PLAIN;
+        }
+    }
+
+    /**
+     * The row being tested by the filter. Values get cast on first access, and
+     * are kept for converting the row if it matches.
+     */
+    private final class FilterRow implements RowFilter.RowValues {
+        // data column and Schema field for each Table header
+        private final int[] columns;
+        private final Field[] fields;
+        private final Object[] castValues;
+        private final boolean[] cast;
+        private String[] row;
+
+        FilterRow(int[] columns, Field[] fields, int columnCount) {
+            this.columns = columns;
+            this.fields = fields;
+            this.castValues = new Object[columnCount];
+            this.cast = new boolean[columnCount];
+        }
+
+        void reset(String[] row) {
+            this.row = row;
+            Arrays.fill(this.cast, false);
+            Arrays.fill(this.castValues, null);
+        }
+
+        boolean isCast(String[] row, int column) {
+            return (row == this.row) && (column < this.cast.length) && this.cast[column];
+        }
+
+        @Override
+        public Object getValue(int field) {
+            int column = this.columns[field];
+            if ((column < 0) || (column >= this.row.length))
+                return null;
+            if (null == TableIterator.this.schema)
+                return this.row[column];
+            if (!this.cast[column]) {
+                this.castValues[column] = this.fields[field].castValue(this.row[column]);
+                this.cast[column] = true;
+            }
+            return this.castValues[column];
+        }
+
+        @Override
+        public String getRawValue(int field) {
+            int column = this.columns[field];
+            if ((column < 0) || (column >= this.row.length))
+                return null;
+            return this.row[column];
+        }
+    }
+
+    private enum RowMode {
+        LAZY,
+        EXTENDED,
+        KEYED,
+        CAST,
+        PLAIN
+    }
 }
@@ -0,0 +1,209 @@
+package io.frictionlessdata.tableschema.iterator;
+
+import io.frictionlessdata.tableschema.Table;
+import io.frictionlessdata.tableschema.datasourceformat.DataSourceFormat;
+import io.frictionlessdata.tableschema.datasourceformat.OpenedSource;
+import io.frictionlessdata.tableschema.datasourceformat.StringArrayDataSourceFormat;
+import io.frictionlessdata.tableschema.exception.TableSchemaException;
+import io.frictionlessdata.tableschema.schema.Schema;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Spliterator over the rows of a {@link Table}, returning rows the same way as a {@link TableIterator}.
+ *
+ * For Tables on a {@link StringArrayDataSourceFormat}, the rows are in memory and the Spliterator
+ * splits by index range and knows its exact size. For all other sources, rows are read sequentially,
+ * and splitting hands off the next batch of rows. Batches grow with each split, so a parallel
+ * Stream keeps all threads busy casting rows while the source gets read by one thread at a time.
+ * For local files, the number of remaining rows is estimated from the file size and the average
+ * length of the rows read so far.
+ */
+public class TableSpliterator<T> implements Spliterator<T>, AutoCloseable {
+    static final int BATCH_SIZE_INCREMENT = 1 << 10;
+    static final int MAX_BATCH_SIZE = 1 << 25;
+
+    private final String[] headers;
+    private final Schema schema;
+    private final Map<Integer, Integer> mapping;
+    private final boolean keyed;
+    private final boolean cast;
+    // converts rows on the thread that owns this Spliterator
+    private final TableIterator<T> converter;
+
+    // rows with access by index, null if reading sequentially
+    private final List<String[]> rows;
+    private int index;
+    private int fence;
+
+    // sequentially read rows, null if accessing rows by index
+    private final OpenedSource source;
+    private final Iterator<String[]> sourceIterator;
+    private int batchSize = 0;
+    // size of the data file, -1 if unknown
+    private final long fileSize;
+    // rows read from the source by tryAdvance() and trySplit(), and their length in characters
+    private long rowsRead = 0;
+    private long charsRead = 0;
+
+    /**
+     * Create a Spliterator over all rows of a Table. The Table gets validated against its Schema.
+     * @param table the Table to read
+     * @param keyed whether to return rows as Maps of header name to value instead of Object arrays
+     * @param cast whether to cast the rows according to the Table's Schema
+     * @throws Exception if reading the headers or validating against the Schema fails
+     */
+    public TableSpliterator(Table table, boolean keyed, boolean cast) throws Exception {
+        table.validate();
+        this.headers = table.getHeaders();
+        this.schema = table.getSchema();
+        this.mapping = table.getSchemaHeaderMapping();
+        this.keyed = keyed;
+        this.cast = cast;
+        this.converter = createConverter();
+
+        DataSourceFormat dataSourceFormat = table.getDataSourceFormat();
+        if (dataSourceFormat instanceof StringArrayDataSourceFormat) {
+            this.rows = ((StringArrayDataSourceFormat) dataSourceFormat).getRows();
+            this.index = 0;
+            this.fence = rows.size();
+            this.source = null;
+            this.sourceIterator = null;
+            this.fileSize = -1;
+        } else {
+            this.rows = null;
+            this.source = dataSourceFormat.open();
+            this.sourceIterator = source.getRowIterator();
+            this.fileSize = dataSourceFormat.getFileSize();
+        }
+    }
+
+    private TableSpliterator(TableSpliterator<T> parent, List<String[]> rows, int index, int fence) {
+        this.headers = parent.headers;
+        this.schema = parent.schema;
+        this.mapping = parent.mapping;
+        this.keyed = parent.keyed;
+        this.cast = parent.cast;
+        this.converter = createConverter();
+        this.rows = rows;
+        this.index = index;
+        this.fence = fence;
+        this.source = null;
+        this.sourceIterator = null;
+        this.fileSize = -1;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        if (null != rows) {
+            if (index >= fence)
+                return false;
+            action.accept(converter.convertRow(rows.get(index++)));
+            return true;
+        }
+        if (!sourceIterator.hasNext())
+            return false;
+        action.accept(converter.convertRow(nextSourceRow()));
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        if (null != rows) {
+            int hi = fence;
+            for (int i = index; i < hi; i++) {
+                action.accept(converter.convertRow(rows.get(i)));
+            }
+            index = hi;
+            return;
+        }
+        while (sourceIterator.hasNext()) {
+            action.accept(converter.convertRow(sourceIterator.next()));
+        }
+    }
+
+    /**
+     * Split off the first half of an index range, or the next batch of rows of a sequential source.
+     */
+    @Override
+    public Spliterator<T> trySplit() {
+        if (null != rows) {
+            int mid = (index + fence) >>> 1;
+            if (mid <= index)
+                return null;
+            TableSpliterator<T> prefix = new TableSpliterator<>(this, rows, index, mid);
+            index = mid;
+            return prefix;
+        }
+        if (!sourceIterator.hasNext())
+            return null;
+        int size = Math.min(batchSize + BATCH_SIZE_INCREMENT, MAX_BATCH_SIZE);
+        String[][] batch = new String[size][];
+        int count = 0;
+        while ((count < size) && sourceIterator.hasNext()) {
+            batch[count++] = nextSourceRow();
+        }
+        batchSize = count;
+        return new TableSpliterator<>(this, Arrays.asList(batch), 0, count);
+    }
+
+    /**
+     * Exact for rows accessed by index. For sequentially read local files, the bytes not yet read divided
+     * by the average row length so far, counting characters as bytes. Before the first row has been read,
+     * the file size is the upper bound. Unknown for all other sources.
+     */
+    @Override
+    public long estimateSize() {
+        if (null != rows)
+            return fence - index;
+        if (fileSize < 0)
+            return Long.MAX_VALUE;
+        if (charsRead == 0)
+            return fileSize;
+        long remaining = Math.max(0, fileSize - charsRead);
+        return (long) ((double) remaining * rowsRead / charsRead);
+    }
+
+    private String[] nextSourceRow() {
+        String[] row = sourceIterator.next();
+        // values plus one delimiter or line break each
+        long length = row.length;
+        for (String value : row) {
+            if (null != value)
+                length += value.length();
+        }
+        rowsRead++;
+        charsRead += length;
+        return row;
+    }
+
+    @Override
+    public int characteristics() {
+        if (null != rows)
+            return ORDERED | NONNULL | SIZED | SUBSIZED;
+        return ORDERED | NONNULL;
+    }
+
+    /**
+     * Releases the underlying file or stream of a sequentially read source.
+     */
+    @Override
+    public void close() {
+        if (null == source)
+            return;
+        try {
+            source.close();
+        } catch (Exception ex) {
+            throw new TableSchemaException(ex);
+        }
+    }
+
+    private TableIterator<T> createConverter() {
+        return new TableIterator<>(headers, schema, mapping, null, keyed, cast);
+    }
+}
@@ -22,6 +22,21 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 
 public class BeanSchema extends Schema {
+    // configured once, the mapper then caches introspection results and CsvSchemas per class
+    private static final CsvMapper MAPPER = createMapper();
+
+    // one shared BeanSchema per Bean class. Held by the Class object itself, so classes
+    // and their class loaders can still be unloaded
+    private static final ClassValue<BeanSchema> SHARED = new ClassValue<BeanSchema>() {
+        @Override
+        protected BeanSchema computeValue(Class<?> beanClass) {
+            try {
+                return infer(beanClass);
+            } catch (NoSuchFieldException ex) {
+                throw new TableSchemaException(ex);
+            }
+        }
+    };
 
     Map<String, Field> fieldMap;
 
@@ -34,12 +49,21 @@ public class BeanSchema extends Schema {
         fieldMap = createFieldMap(fields);
     }
 
+    /**
+     * Returns the BeanSchema of `beanClass`, inferred on first use and cached for the lifetime of the class.
+     * The same instance is returned to all callers on all threads, so it must not be modified. Use
+     * {@link #infer(Class)} to get a BeanSchema that can be changed.
+     * @param beanClass the Bean class
+     * @return the shared BeanSchema
+     * @throws TableSchemaException if a property of the Bean class cannot be mapped to a Field
+     */
+    public static BeanSchema shared(Class beanClass) {
+        return SHARED.get(beanClass);
+    }
+
     public static BeanSchema infer(Class beanClass) throws NoSuchFieldException {
         List<Field> fields = new ArrayList<>();
-        CsvMapper mapper = new CsvMapper();
-        mapper.setVisibility(mapper.getSerializationConfig()
-                        .getDefaultVisibilityChecker()
-                        .withFieldVisibility(JsonAutoDetect.Visibility.ANY));
+        CsvMapper mapper = MAPPER;
         CsvSchema csvSchema = mapper.typedSchemaFor(beanClass);
         Iterator<CsvSchema.Column> iterator = csvSchema.iterator();
         Map<String, String> fieldNames = ReflectionUtils.getFieldNameMapping(mapper, beanClass);
@@ -155,10 +179,7 @@ public class BeanSchema extends Schema {
     }
 
     static Map<String, AnnotatedField> createAnnotatedFieldMap(Class type) {
-        CsvMapper mapper = new CsvMapper();
-        mapper.setVisibility(mapper.getSerializationConfig()
-                .getDefaultVisibilityChecker()
-                .withFieldVisibility(JsonAutoDetect.Visibility.ANY));
+        CsvMapper mapper = MAPPER;
         Map<String, AnnotatedField> fields = new LinkedHashMap<>();
         JavaType jType = mapper.constructType(type);
         BeanDescription desc = mapper.getSerializationConfig()
@@ -172,6 +193,14 @@ public class BeanSchema extends Schema {
         return fields;
     }
 
+    private static CsvMapper createMapper() {
+        CsvMapper mapper = new CsvMapper();
+        mapper.setVisibility(mapper.getSerializationConfig()
+                .getDefaultVisibilityChecker()
+                .withFieldVisibility(JsonAutoDetect.Visibility.ANY));
+        return mapper;
+    }
+
     public CsvSchema getCsvSchema() {
         return csvSchema;
     }
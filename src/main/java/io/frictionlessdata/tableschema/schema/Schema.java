@@ -19,6 +19,7 @@ import java.io.*;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 /**
@@ -165,6 +166,51 @@ public class Schema {
     public static Schema infer(List<Object[]> data, String[] headers, int rowLimit) throws TypeInferringException, IOException {
         return fromJson(TypeInferrer.getInstance().infer(data, headers, rowLimit), true);
     }
+
+    /**
+     * Infer the data types from rows read one by one and return the generated schema. Reading stops
+     * after `rowLimit` rows, so only the part of the data needed for inferral is read.
+     * @param data Iterator over the rows
+     * @param headers the column names
+     * @param rowLimit maximum number of rows to look at, -1 for all rows
+     * @return Schema generated from the inferred input
+     * @throws TypeInferringException
+     */
+    public static Schema infer(Iterator<? extends Object[]> data, String[] headers, int rowLimit) throws TypeInferringException, IOException {
+        return fromJson(TypeInferrer.getInstance().infer(data, headers, rowLimit), true);
+    }
+
+    /**
+     * Infer the data types from a random sample of `sampleSize` rows and return the generated schema.
+     * All rows are read, but the cost of inferral is fixed by the sample size.
+     * @param data Iterator over the rows
+     * @param headers the column names
+     * @param sampleSize the number of rows to infer the types from
+     * @param seed seed for choosing the sample
+     * @return Schema generated from the inferred input
+     * @throws TypeInferringException
+     */
+    public static Schema inferFromSample(Iterator<? extends Object[]> data, String[] headers, int sampleSize, long seed)
+            throws TypeInferringException, IOException {
+        return fromJson(TypeInferrer.getInstance().inferFromSample(data, headers, sampleSize, seed), true);
+    }
+
+    /**
+     * Infer the data types from rows read one by one and return the generated schema. The columns are
+     * inferred by up to `parallelism` tasks at a time on the `executor`, which pays off for wide tables.
+     * The result is the same as with {@link #infer(Iterator, String[], int)}.
+     * @param data Iterator over the rows
+     * @param headers the column names
+     * @param rowLimit maximum number of rows to look at, -1 for all rows
+     * @param executor the Executor to run the inferral tasks on
+     * @param parallelism the maximum number of tasks to run at the same time
+     * @return Schema generated from the inferred input
+     * @throws TypeInferringException
+     */
+    public static Schema infer(Iterator<? extends Object[]> data, String[] headers, int rowLimit,
+                               Executor executor, int parallelism) throws TypeInferringException, IOException {
+        return fromJson(TypeInferrer.getInstance().infer(data, headers, rowLimit, executor, parallelism), true);
+    }
     
     /**
      * Initializes the schema from given stream.
@@ -188,7 +234,8 @@ public class Schema {
         if(schemaObj.has(JSON_KEY_FIELDS)){
         	TypeReference<List<Field>> fieldsTypeRef = new TypeReference<List<Field>>() {};
         	String fieldsJson = schemaObj.withArray(JSON_KEY_FIELDS).toString();
-            this.fields.addAll(JsonUtil.getInstance().deserialize(fieldsJson, fieldsTypeRef));
+            JsonUtil.getInstance().deserialize(fieldsJson, fieldsTypeRef)
+                    .forEach((f) -> this.fields.add(Field.forOptions(f)));
         }
         
         // Set Primary Key
@@ -5,6 +5,9 @@ import io.frictionlessdata.tableschema.field.Field;
 import io.frictionlessdata.tableschema.util.JsonUtil;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 
 /**
@@ -15,14 +18,14 @@ import java.util.*;
 public class TypeInferrer {
     
     /**
-     * We are using reflection to go through the cast methods
-     * so we want to make this a Singleton to avoid instanciating
-     * a new class for every cast method call attempt.
+     * TypeInferrer holds no state, all state of an inferral lives in an {@link InferenceSession}
+     * created per call. One instance can therefore be shared by any number of threads
+     * inferring schemas at the same time.
      */
-    private static TypeInferrer instance = null;
+    private static final TypeInferrer instance = new TypeInferrer();
 
-    private Map<String, Map<String, Integer>> typeInferralMap = new HashMap<>();
-    private Map<String, String> formatMap = new HashMap<>();
+    // number of rows handed to the tasks of a parallel inferral at a time
+    static final int INFERRAL_BLOCK_SIZE = 1 << 10;
     
     // The order in which the types will be attempted to be inferred.
     // Once a type is successfully inferred, we do not bother with the remaining types.
@@ -52,11 +55,8 @@ public class TypeInferrer {
     }
     
     static TypeInferrer getInstance() {
-      if(instance == null) {
-         instance = new TypeInferrer();
-      }
-      return instance;
-   }
+        return instance;
+    }
     
     /**
      * Infer the data types and return the generated schema.
@@ -65,7 +65,7 @@ public class TypeInferrer {
      * @return
      * @throws TypeInferringException 
      */
-    synchronized String infer(List<Object[]> data, String[] headers) throws TypeInferringException{
+    String infer(List<Object[]> data, String[] headers) throws TypeInferringException{
         return this.infer(data, headers, -1);
     }
     
@@ -77,7 +77,7 @@ public class TypeInferrer {
      * @return
      * @throws TypeInferringException 
      */
-    synchronized String infer(List<Object[]> data, String[] headers, int rowLimit) throws TypeInferringException{
+    String infer(List<Object[]> data, String[] headers, int rowLimit) throws TypeInferringException{
         
         // If the given row limit is bigger than the length of the data
         // then just use the length of the data.
@@ -87,17 +87,184 @@ public class TypeInferrer {
         } else if(rowLimit == -1){
             rowLimit = data.size()-1;
         }
+        return this.infer(data.iterator(), headers, rowLimit);
+    }
+
+    /**
+     * Infer the data types from rows read one by one and return the generated schema.
+     * Rows are not kept, only a per-column count of the inferred types, so memory consumption
+     * does not depend on the number of rows.
+     * @param data Iterator over the rows
+     * @param headers the column names
+     * @param rowLimit index of the last row to look at, -1 to look at all rows
+     * @return the generated schema as JSON
+     * @throws TypeInferringException
+     */
+    String infer(Iterator<? extends Object[]> data, String[] headers, int rowLimit) throws TypeInferringException{
+        InferenceSession session = new InferenceSession();
+
+        // Init the type inferral map to track our inferences for each row.
+        for (String header : headers) {
+            session.typeInferralMap.put(header, new HashMap<>());
+        }
+
+        // Find the type for each column data for each row.
+        // This probes the values with each possible type in a for loop.
+        // Inspect the findType method for implementation.
+        for(int i = 0; ((rowLimit == -1) || (i <= rowLimit)) && data.hasNext(); i++){
+            Object[] row = data.next();
+            
+            for(int j = 0; j < row.length; j++){
+                if (null != row[j])
+                    session.findType(headers[j], row[j].toString());
+            }
+        }
+        return createSchemaJson(headers, session.typeInferralMap, session.formatMap);
+    }
+
+    /**
+     * Infer the data types from a random sample of the rows and return the generated schema.
+     * All rows are read, but only `sampleSize` of them are kept and inferred, so the cost of inferral and
+     * the memory consumption do not depend on the number of rows. Unlike with a `rowLimit`, rows from all
+     * parts of the data are looked at, which gives representative results for sorted data.
+     * @param data Iterator over the rows
+     * @param headers the column names
+     * @param sampleSize the number of rows to infer the types from
+     * @param seed seed for choosing the sample, the same seed on the same data gives the same schema
+     * @return the generated schema as JSON
+     * @throws TypeInferringException
+     */
+    String inferFromSample(Iterator<? extends Object[]> data, String[] headers, int sampleSize, long seed)
+            throws TypeInferringException{
+        return infer(sample(data, sampleSize, seed).iterator(), headers, -1);
+    }
+
+    /**
+     * Draw a uniform random sample of rows by reservoir sampling. The sampled rows are returned in the order
+     * they were read, so inferring from them behaves like inferring from a shorter version of the data.
+     * @param data Iterator over the rows
+     * @param sampleSize the maximum number of rows to return
+     * @param seed seed for the random number generator
+     * @return `sampleSize` rows, or all rows if there are fewer
+     */
+    static List<Object[]> sample(Iterator<? extends Object[]> data, int sampleSize, long seed) {
+        if (sampleSize < 1)
+            throw new IllegalArgumentException("Sample size must be at least 1");
+        Random random = new Random(seed);
+        Object[][] reservoir = new Object[sampleSize][];
+        long[] rowIndexes = new long[sampleSize];
+        long i = 0;
+        for (; data.hasNext(); i++) {
+            Object[] row = data.next();
+            long slot = (i < sampleSize) ? i : (long)(random.nextDouble() * (i + 1));
+            if (slot < sampleSize) {
+                reservoir[(int) slot] = row;
+                rowIndexes[(int) slot] = i;
+            }
+        }
+        int count = (int) Math.min(i, sampleSize);
+        Integer[] order = new Integer[count];
+        for (int j = 0; j < count; j++) {
+            order[j] = j;
+        }
+        Arrays.sort(order, Comparator.comparingLong(j -> rowIndexes[j]));
+        List<Object[]> rows = new ArrayList<>(count);
+        for (Integer j : order) {
+            rows.add(reservoir[j]);
+        }
+        return rows;
+    }
 
+    /**
+     * Infer the data types from rows read one by one, spreading the columns over several tasks run by an Executor.
+     *
+     * Types are inferred per column, so the columns are split into `parallelism` shards, each with its own
+     * {@link InferenceSession}. Rows are read in blocks on the calling thread, and each block gets handed to one
+     * task per shard, while the next block is read. A shard sees the values of its columns in row order,
+     * so the generated schema is identical to the one of {@link #infer(Iterator, String[], int)}.
+     * @param data Iterator over the rows
+     * @param headers the column names
+     * @param rowLimit index of the last row to look at, -1 to look at all rows
+     * @param executor the Executor to run the inferral tasks on
+     * @param parallelism the maximum number of tasks to run at the same time
+     * @return the generated schema as JSON
+     * @throws TypeInferringException if reading the rows fails or an inferral task fails
+     */
+    String infer(Iterator<? extends Object[]> data, String[] headers, int rowLimit, Executor executor, int parallelism)
+            throws TypeInferringException{
+        Set<String> distinctHeaders = new LinkedHashSet<>(Arrays.asList(headers));
+        int shardCount = Math.min(parallelism, distinctHeaders.size());
+        if ((null == executor) || (shardCount < 2))
+            return infer(data, headers, rowLimit);
+
+        // columns with the same header share their counts, so they go to the same shard
+        Map<String, ColumnShard> shardByHeader = new HashMap<>();
+        List<ColumnShard> shards = new ArrayList<>();
+        for (String header : distinctHeaders) {
+            if (shards.size() < shardCount) {
+                shards.add(new ColumnShard(headers));
+            }
+            ColumnShard shard = shards.get(shardByHeader.size() % shardCount);
+            shard.session.typeInferralMap.put(header, new HashMap<>());
+            shardByHeader.put(header, shard);
+        }
+        for (int j = 0; j < headers.length; j++) {
+            shardByHeader.get(headers[j]).addColumn(j);
+        }
+
+        CompletableFuture<Void> pending = null;
+        int i = 0;
+        while (true) {
+            Object[][] block = new Object[INFERRAL_BLOCK_SIZE][];
+            int count = 0;
+            while ((count < INFERRAL_BLOCK_SIZE) && ((rowLimit == -1) || (i <= rowLimit)) && data.hasNext()) {
+                block[count++] = data.next();
+                i++;
+            }
+            // a shard must be done with the previous block before it gets the next one
+            await(pending);
+            if (count == 0)
+                break;
+            CompletableFuture<?>[] tasks = new CompletableFuture<?>[shards.size()];
+            for (int s = 0; s < tasks.length; s++) {
+                ColumnShard shard = shards.get(s);
+                int blockSize = count;
+                tasks[s] = CompletableFuture.runAsync(() -> shard.findTypes(block, blockSize), executor);
+            }
+            pending = CompletableFuture.allOf(tasks);
+        }
 
+        Map<String, Map<String, Integer>> typeInferralMap = new HashMap<>();
+        Map<String, String> formatMap = new HashMap<>();
+        for (ColumnShard shard : shards) {
+            typeInferralMap.putAll(shard.session.typeInferralMap);
+            formatMap.putAll(shard.session.formatMap);
+        }
+        return createSchemaJson(headers, typeInferralMap, formatMap);
+    }
+
+    private static void await(CompletableFuture<Void> pending) throws TypeInferringException {
+        if (null == pending)
+            return;
+        try {
+            pending.join();
+        } catch (CompletionException ex) {
+            throw new TypeInferringException(ex.getCause());
+        }
+    }
+
+    /**
+     * Settle on the type that was inferred the most for each field and build the schema JSON.
+     */
+    private String createSchemaJson(
+            String[] headers,
+            Map<String, Map<String, Integer>> typeInferralMap,
+            Map<String, String> formatMap) {
         // The array that will define the fields in the schema JSON Object.
         List<Map<String,Object>> fieldArray = new ArrayList<>();
-        
-        // Init the type inferral map and init the schema objects
+
+        // Init the schema objects
         for (String header : headers) {
-            // Init the type inferral map to track our inferences for each row.
-            this.getTypeInferralMap().put(header, new HashMap());
-            
-            // Init the schema objects
             Map<String, Object> fieldObj = new HashMap<>();
             fieldObj.put(Field.JSON_KEY_NAME, header);
             fieldObj.put(Field.JSON_KEY_TITLE, ""); // This will stay blank.
@@ -109,23 +276,12 @@ public class TypeInferrer {
             fieldArray.add(fieldObj);
         }
 
-        // Find the type for each column data for each row.
-        // This uses method invokation via reflection in a foor loop that iterates
-        // for each possible type/format combo. Insprect the findType method for implementation.
-        for(int i = 0; i <= rowLimit; i++){
-            Object[] row = data.get(i);
-            
-            for(int j = 0; j < row.length; j++){
-                this.findType(headers[j], row[j].toString());
-            }
-        }
-        
         // We are done inferring types.
         // Now for each field we figure out which type was the most inferred and settle for that type
         // as the final type for the field.
         for(int j=0; j < fieldArray.size(); j++){
             String fieldName = fieldArray.get(j).get(Field.JSON_KEY_NAME).toString();
-            HashMap<String, Integer> typeInferralCountMap = (HashMap<String, Integer>)this.getTypeInferralMap().get(fieldName);
+            Map<String, Integer> typeInferralCountMap = typeInferralMap.get(fieldName);
             TreeMap<String, Integer> typeInferralCountMapSortedByCount = sortMapByValue(typeInferralCountMap); 
            
             if(!typeInferralCountMapSortedByCount.isEmpty()){
@@ -134,10 +290,6 @@ public class TypeInferrer {
                 fieldArray.get(j).put(Field.JSON_KEY_FORMAT, formatMap.get(headers[j]));
             }
         }
-        
-        // Need to clear the inferral map for the next inferral call:
-        this.getTypeInferralMap().clear();
-        this.formatMap.clear();
 
         // Now that the types have been inferred and set, we build and return the schema object.
         Map<String, Object> schemaJsonObject = new HashMap<>();
@@ -146,51 +298,6 @@ public class TypeInferrer {
         return JsonUtil.getInstance().serialize(schemaJsonObject);
     }
     
-    private void findType(String header, String datum){
-        // Go through all the field types and call their parsing method to find
-        // the first that won't throw
-        for(String[] typeInferralDefinition: TYPE_INFERRAL_ORDER_LIST){
-            try{
-                // Keep invoking the type casting methods until one doesn't throw an exception
-                String dataType = typeInferralDefinition[0];
-
-                Field field = Field.forType(dataType, dataType);
-                String format = formatMap.get(header);
-                if (null == format) {
-                    format = field.parseFormat(datum, null);
-                }
-                field.parseValue(datum, format, null);
-                this.formatMap.put(header, format);
-                // If no exception is thrown, in means that a type has been inferred.
-                // Let's keep track of it in the inferral map.
-                this.updateInferralScoreMap(header, field.getType());
-                
-                // We no longer need to try to infer other types. 
-                // Let's break out of the loop.
-                break;
-
-            } catch (Exception e) {
-                // Do nothing.
-                // An exception here means that we failed to infer with the current type.
-                // Move on to attempt with the next type in the following iteration.
-            }
-        }
-    }
-    
-    /**
-     * The type inferral map is where we keep track of the types inferred for values within the same field.
-     * @param header
-     * @param typeKey 
-     */
-    private void updateInferralScoreMap(String header, String typeKey){
-        if(this.getTypeInferralMap().get(header).containsKey(typeKey)){
-            int newCount = this.typeInferralMap.get(header).get(typeKey) + 1;
-            this.getTypeInferralMap().get(header).replace(typeKey, newCount);
-        }else{
-            this.getTypeInferralMap().get(header).put(typeKey, 1);
-        }
-    }
-    
     /**
      * We use a map to keep track the inferred type counts for each field.
      * Once we are done inferring, we settle for the type with that was inferred the most for the same field.
@@ -205,7 +312,98 @@ public class TypeInferrer {
         return result;
     }
 
-    private Map<String, Map<String, Integer>> getTypeInferralMap(){
-        return this.typeInferralMap;
+    /**
+     * The state of one inferral: the per-column type counts and the formats found so far.
+     */
+    private static class InferenceSession {
+        private final Map<String, Map<String, Integer>> typeInferralMap = new HashMap<>();
+        private final Map<String, String> formatMap = new HashMap<>();
+
+        // one Field per type to try, created once and reused for every cell
+        private final List<Field> candidates = createCandidates();
+
+        private void findType(String header, String datum){
+            // Go through all the field types and probe their values to find
+            // the first that matches
+            for(Field field : candidates){
+                String format = formatMap.get(header);
+                if (null == format) {
+                    try {
+                        format = field.parseFormat(datum, null);
+                    } catch (Exception e) {
+                        // no format means we failed to infer with the current type.
+                        continue;
+                    }
+                }
+                if (field.matches(datum, format, null)) {
+                    this.formatMap.put(header, format);
+                    // A match means that a type has been inferred.
+                    // Let's keep track of it in the inferral map.
+                    this.updateInferralScoreMap(header, field.getType());
+
+                    // We no longer need to try to infer other types.
+                    // Let's break out of the loop.
+                    break;
+                }
+            }
+        }
+
+        /**
+         * Types can appear more than once in the inferral order list with different formats, but the
+         * format to try is determined from the value, so one Field per type is enough.
+         */
+        private static List<Field> createCandidates() {
+            Set<String> types = new LinkedHashSet<>();
+            for(String[] typeInferralDefinition: TYPE_INFERRAL_ORDER_LIST){
+                types.add(typeInferralDefinition[0]);
+            }
+            List<Field> fields = new ArrayList<>();
+            for (String type : types) {
+                fields.add(Field.forType(type, type));
+            }
+            return fields;
+        }
+    
+        /**
+         * The type inferral map is where we keep track of the types inferred for values within the same field.
+         * @param header
+         * @param typeKey 
+         */
+        private void updateInferralScoreMap(String header, String typeKey){
+            if(this.typeInferralMap.get(header).containsKey(typeKey)){
+                int newCount = this.typeInferralMap.get(header).get(typeKey) + 1;
+                this.typeInferralMap.get(header).replace(typeKey, newCount);
+            }else{
+                this.typeInferralMap.get(header).put(typeKey, 1);
+            }
+        }
+    }
+
+    /**
+     * The columns inferred by one task of a parallel inferral, with their own {@link InferenceSession}.
+     */
+    private static class ColumnShard {
+        private final InferenceSession session = new InferenceSession();
+        private final String[] headers;
+        private int[] columns = new int[0];
+
+        private ColumnShard(String[] headers) {
+            this.headers = headers;
+        }
+
+        private void addColumn(int column) {
+            columns = Arrays.copyOf(columns, columns.length + 1);
+            columns[columns.length - 1] = column;
+        }
+
+        private void findTypes(Object[][] rows, int count) {
+            for (int i = 0; i < count; i++) {
+                Object[] row = rows[i];
+                for (int j : columns) {
+                    if ((j < row.length) && (null != row[j]))
+                        session.findType(headers[j], row[j].toString());
+                }
+            }
+        }
     }
-}
\ No newline at end of file
+}
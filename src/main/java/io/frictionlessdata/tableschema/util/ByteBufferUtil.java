@@ -0,0 +1,59 @@
+package io.frictionlessdata.tableschema.util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+
+public class ByteBufferUtil {
+    private static final MethodHandle CLEANER = findCleaner();
+
+    /**
+     * Free the memory of a direct or memory-mapped ByteBuffer right away instead of when the garbage
+     * collector collects it. Accessing the buffer afterwards crashes the JVM, so callers must make
+     * sure the buffer is no longer used. Slices and duplicates can't be freed, only the original buffer.
+     * Does nothing if the JVM doesn't allow freeing buffers.
+     * @param buffer the buffer to free
+     */
+    public static void free(ByteBuffer buffer) {
+        if ((null == CLEANER) || !buffer.isDirect())
+            return;
+        try {
+            CLEANER.invoke(buffer);
+        } catch (Throwable ex) {
+            // the garbage collector frees the memory later
+        }
+    }
+
+    /**
+     * Find a way to free a direct ByteBuffer right away: Unsafe.invokeCleaner() on Java 9 and newer,
+     * the buffer's Cleaner on Java 8. Returns null if neither is accessible, memory then gets freed
+     * when the garbage collector collects the ByteBuffer.
+     */
+    private static MethodHandle findCleaner() {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Method invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            return lookup.unreflect(invokeCleaner).bindTo(theUnsafe.get(null));
+        } catch (Exception ex) {
+            // not Java 9 or newer
+        }
+        try {
+            Method cleanerMethod = ByteBuffer.allocateDirect(1).getClass().getMethod("cleaner");
+            cleanerMethod.setAccessible(true);
+            Method cleanMethod = Class.forName("sun.misc.Cleaner").getMethod("clean");
+            MethodHandle cleaner = lookup.unreflect(cleanerMethod)
+                    .asType(MethodType.methodType(Object.class, ByteBuffer.class));
+            MethodHandle clean = lookup.unreflect(cleanMethod)
+                    .asType(MethodType.methodType(void.class, Object.class));
+            return MethodHandles.filterReturnValue(cleaner, clean);
+        } catch (Exception ex) {
+            return null;
+        }
+    }
+}
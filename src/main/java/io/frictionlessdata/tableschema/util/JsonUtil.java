@@ -1,5 +1,6 @@
 package io.frictionlessdata.tableschema.util;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.json.JsonReadFeature;
@@ -16,6 +17,8 @@ import io.frictionlessdata.tableschema.exception.JsonSerializingException;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.Reader;
+import java.io.Writer;
 import java.util.Objects;
 
 public final class JsonUtil {
@@ -94,6 +97,25 @@ public final class JsonUtil {
 		}
 	}
 
+	/**
+	 * Create a streaming {@link com.fasterxml.jackson.core.JsonGenerator} on a Writer. Values written
+	 * with `writeObject()` are serialized the same way as by {@link #serialize(Object, boolean)}.
+	 * Closing the generator flushes it, but does not close the Writer.
+	 * @param writer the Writer to write to
+	 * @param indent whether to pretty-print the output
+	 * @return the JsonGenerator
+	 */
+	public JsonGenerator createGenerator(Writer writer, boolean indent) {
+		try {
+			JsonGenerator generator = mapper.createGenerator(writer);
+			generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+			generator.setPrettyPrinter((indent) ? new DefaultPrettyPrinter() : new MinimalPrettyPrinter());
+			return generator;
+		} catch (IOException e) {
+			throw new JsonSerializingException(e);
+		}
+	}
+
 	public <T> T deserialize(String value, Class<T> clazz) {
 		try {
 			return mapper.readValue(sanitize(value), clazz);
@@ -134,6 +156,33 @@ public final class JsonUtil {
 		}
 	}
 	
+	/**
+	 * Create a streaming {@link com.fasterxml.jackson.core.JsonParser} on a Reader, using the same
+	 * parser features as the other read methods.
+	 * @param reader the Reader to parse from
+	 * @return the JsonParser
+	 */
+	public JsonParser createParser(Reader reader) {
+		try {
+			return mapper.createParser(reader);
+		} catch (IOException e) {
+			throw new JsonParsingException(e);
+		}
+	}
+
+	/**
+	 * Read the value at the current position of a streaming parser into a tree.
+	 * @param parser the JsonParser positioned at the start of a value
+	 * @return the value as JsonNode
+	 */
+	public JsonNode readValue(JsonParser parser) {
+		try {
+			return mapper.readTree(parser);
+		} catch (IOException e) {
+			throw new JsonParsingException(e);
+		}
+	}
+
 	public <T> T convertValue(Object value, Class<T> clazz) {
 		return mapper.convertValue(value, clazz);
 	}
@@ -0,0 +1,163 @@
+package io.frictionlessdata.tableschema.columnar;
+
+import io.frictionlessdata.tableschema.Table;
+import io.frictionlessdata.tableschema.TestHelper;
+import io.frictionlessdata.tableschema.datasourceformat.DataSourceFormat;
+import io.frictionlessdata.tableschema.exception.TableSchemaException;
+import io.frictionlessdata.tableschema.schema.Schema;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.Arrays;
+import java.util.List;
+
+import static io.frictionlessdata.tableschema.TestHelper.getTestDataDirectory;
+
+class ColumnarTableTest {
+
+    @Test
+    @DisplayName("Read a Table into primitive Columns")
+    void testReadColumnar() throws Exception {
+        Schema schema = Schema.fromJson(
+                TestHelper.getResourceFileContent("/fixtures/schema/employee_schema.json"), true);
+        Table table = Table.fromSource(new File("data/employee_data.csv"), getTestDataDirectory(),
+                schema, DataSourceFormat.getDefaultCsvFormat());
+        List<Object[]> rows = table.read(true);
+
+        ColumnarTable columnar = table.readColumnar();
+        Assertions.assertEquals(rows.size(), columnar.getRowCount());
+        Assertions.assertEquals(7, columnar.getColumnCount());
+
+        LongColumn ids = (LongColumn) columnar.getColumn("id");
+        IntColumn dates = (IntColumn) columnar.getColumn("dateOfBirth");
+        BooleanColumn admins = (BooleanColumn) columnar.getColumn("isAdmin");
+        DictionaryColumn names = (DictionaryColumn) columnar.getColumn("name");
+        Assertions.assertTrue(columnar.getColumn("contractLength") instanceof ObjectColumn);
+
+        Assertions.assertEquals(1, ids.getLong(0));
+        Assertions.assertEquals(LocalDate.of(1976, 1, 13).toEpochDay(), dates.getInt(0));
+        Assertions.assertTrue(admins.getBoolean(0));
+        Assertions.assertEquals("John Doe", names.getDictionary().get(names.getCode(0)));
+        for (int i = 0; i < rows.size(); i++) {
+            Object[] row = rows.get(i);
+            Object[] columnarRow = columnar.getRow(i);
+            Assertions.assertEquals(((BigInteger) row[0]).longValue(), ids.getLong(i));
+            Assertions.assertEquals(row[1], columnarRow[1]);
+            Assertions.assertEquals(row[2], columnarRow[2]);
+            Assertions.assertEquals(row[3], columnarRow[3]);
+            Assertions.assertArrayEquals((double[]) row[4], (double[]) columnarRow[4]);
+            Assertions.assertEquals(row[5], columnarRow[5]);
+        }
+    }
+
+    @Test
+    @DisplayName("Track nulls and fall back to Objects for values that don't fit")
+    void testReadColumnarNullsAndOverflow() throws Exception {
+        String schemaJson = "{\"fields\": [{\"name\": \"small\", \"type\": \"integer\"}, "
+                + "{\"name\": \"big\", \"type\": \"integer\"}, {\"name\": \"year\", \"type\": \"year\"}, "
+                + "{\"name\": \"amount\", \"type\": \"number\"}, {\"name\": \"label\", \"type\": \"string\"}]}";
+        String csv = "small,big,year,amount,label\n"
+                + "1,1,2008,1.5,a\n"
+                + ",99999999999999999999,,,b\n"
+                + "3,3,2010,-2,a\n";
+        Table table = Table.fromSource(csv, Schema.fromJson(schemaJson, true), DataSourceFormat.getDefaultCsvFormat());
+
+        ColumnarTable columnar = table.readColumnar();
+        Assertions.assertEquals(3, columnar.getRowCount());
+
+        LongColumn small = (LongColumn) columnar.getColumn("small");
+        Assertions.assertTrue(small.isNull(1));
+        Assertions.assertNull(small.get(1));
+        Assertions.assertEquals(1, small.getNullCount());
+        Assertions.assertEquals(3L, small.get(2));
+
+        Column big = columnar.getColumn("big");
+        Assertions.assertTrue(big instanceof ObjectColumn);
+        Assertions.assertEquals(BigInteger.ONE, big.get(0));
+        Assertions.assertEquals(new BigInteger("99999999999999999999"), big.get(1));
+
+        Assertions.assertEquals(Year.of(2010), columnar.getValue(2, 2));
+        Assertions.assertNull(columnar.getValue(1, 2));
+        Assertions.assertEquals(-2.0, ((DoubleColumn) columnar.getColumn("amount")).getDouble(2));
+
+        DictionaryColumn labels = (DictionaryColumn) columnar.getColumn("label");
+        Assertions.assertEquals(Arrays.asList("a", "b"), labels.getDictionary());
+        Assertions.assertEquals(labels.getCode(0), labels.getCode(2));
+    }
+
+    @Test
+    @DisplayName("Fall back to Objects for numbers a double can't hold exactly")
+    void testReadColumnarNumberOverflow() throws Exception {
+        String schemaJson = "{\"fields\": [{\"name\": \"exact\", \"type\": \"number\"}, "
+                + "{\"name\": \"precise\", \"type\": \"number\"}]}";
+        String csv = "exact,precise\n"
+                + "0.1,1.5\n"
+                + "9007199254740992,3542352304245234542345345423453.02345234\n";
+        Table table = Table.fromSource(csv, Schema.fromJson(schemaJson, true), DataSourceFormat.getDefaultCsvFormat());
+
+        ColumnarTable columnar = table.readColumnar();
+        DoubleColumn exact = (DoubleColumn) columnar.getColumn("exact");
+        Assertions.assertEquals(0.1, exact.get(0));
+        Assertions.assertEquals(9007199254740992.0, exact.getDouble(1));
+
+        Column precise = columnar.getColumn("precise");
+        Assertions.assertTrue(precise instanceof ObjectColumn);
+        Assertions.assertEquals(1.5, precise.get(0));
+        Assertions.assertEquals(new BigDecimal("3542352304245234542345345423453.02345234"), precise.get(1));
+    }
+
+    @Test
+    @DisplayName("Read a Table into Columns off the heap")
+    void testReadColumnarOffHeap() throws Exception {
+        Schema schema = Schema.fromJson(
+                TestHelper.getResourceFileContent("/fixtures/schema/employee_schema.json"), true);
+        Table table = Table.fromSource(new File("data/employee_data.csv"), getTestDataDirectory(),
+                schema, DataSourceFormat.getDefaultCsvFormat());
+        ColumnarTable heap = table.readColumnar();
+
+        LongColumn ids;
+        try (ColumnarTable offHeap = table.readColumnar(ColumnStorage.OFF_HEAP)) {
+            Assertions.assertEquals(heap.getRowCount(), offHeap.getRowCount());
+            for (int i = 0; i < heap.getRowCount(); i++) {
+                for (int j : new int[]{0, 1, 2, 3, 5}) {
+                    Assertions.assertEquals(heap.getValue(i, j), offHeap.getValue(i, j));
+                }
+            }
+            ids = (LongColumn) offHeap.getColumn("id");
+            Assertions.assertEquals(1, ids.getLong(0));
+        }
+        Assertions.assertThrows(TableSchemaException.class, () -> ids.getLong(0));
+    }
+
+    @Test
+    @DisplayName("Fall back to Objects off the heap")
+    void testReadColumnarOffHeapOverflow() throws Exception {
+        String schemaJson = "{\"fields\": [{\"name\": \"big\", \"type\": \"integer\"}]}";
+        String csv = "big\n1\n\n99999999999999999999\n";
+        Table table = Table.fromSource(csv, Schema.fromJson(schemaJson, true), DataSourceFormat.getDefaultCsvFormat());
+
+        try (ColumnarTable columnar = table.readColumnar(ColumnStorage.OFF_HEAP)) {
+            Column big = columnar.getColumn("big");
+            Assertions.assertTrue(big instanceof ObjectColumn);
+            Assertions.assertEquals(BigInteger.ONE, big.get(0));
+            Assertions.assertTrue(big.isNull(1));
+            Assertions.assertEquals(new BigInteger("99999999999999999999"), big.get(2));
+        }
+    }
+
+    @Test
+    @DisplayName("Fail clearly for vectors too large for a direct ByteBuffer")
+    void testOffHeapVectorTooLarge() {
+        try (VectorAllocator allocator = new VectorAllocator(ColumnStorage.OFF_HEAP)) {
+            Assertions.assertThrows(TableSchemaException.class, () -> allocator.allocateLongs(300_000_000));
+            Assertions.assertThrows(TableSchemaException.class, () -> allocator.allocateDoubles(300_000_000));
+            Assertions.assertThrows(TableSchemaException.class, () -> allocator.allocateInts(600_000_000));
+        }
+    }
+}
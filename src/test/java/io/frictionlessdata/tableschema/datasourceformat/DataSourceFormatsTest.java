@@ -1,8 +1,10 @@
 package io.frictionlessdata.tableschema.datasourceformat;
 
 import io.frictionlessdata.tableschema.TestHelper;
+import io.frictionlessdata.tableschema.exception.TableSchemaException;
 import io.frictionlessdata.tableschema.schema.Schema;
 import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
 import org.junit.Assert;
 import org.junit.Rule;
 import org.junit.Test;
@@ -15,9 +17,12 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileReader;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -60,6 +65,24 @@ public class DataSourceFormatsTest {
         DataSourceFormat ds = DataSourceFormat.createDataSourceFormat(dates);
         Assert.assertTrue(ds instanceof CsvDataSourceFormat);
     }
+
+    @Test
+    public void testDefaultOpen() throws Exception{
+        List<String[]> rows = new ArrayList<>();
+        rows.add(new String[]{"london", "2017", "8780000"});
+        // implements only the methods that predate open() and getPassCount()
+        DataSourceFormat ds = new DataSourceFormat() {
+            public Iterator<String[]> iterator() { return rows.iterator(); }
+            public String[] getHeaders() { return populationHeaders; }
+            public List<String[]> data() { return rows; }
+            public boolean hasReliableHeaders() { return true; }
+        };
+        try (OpenedSource source = ds.open()) {
+            Assert.assertArrayEquals(populationHeaders, source.getHeaders());
+            Assert.assertArrayEquals(rows.get(0), source.getRowIterator().next());
+        }
+        Assert.assertEquals(-1, ds.getPassCount());
+    }
 /*
     @Test
     public void writeCsvToCsv() throws Exception{
@@ -205,6 +228,109 @@ public class DataSourceFormatsTest {
         Assert.assertNotNull(ds);
     }
 
+    @Test
+    public void testStreamingFileCreationCsv() throws Exception {
+        DataSourceFormat ds = DataSourceFormat.createDataSourceFormat(
+                new File("data/population.csv"), TestHelper.getTestDataDirectory());
+        Assert.assertTrue(ds instanceof CsvDataSourceFormat);
+        Assert.assertArrayEquals(populationHeaders, ds.getHeaders());
+        // iterating twice must re-open the file
+        Assert.assertEquals(3, ds.data().size());
+        Assert.assertEquals(3, ds.data().size());
+    }
+
+    @Test
+    public void testSplitCsvWithQuotedLineBreaks() throws Exception {
+        Path tempDir = Files.createTempDirectory("tableschema-");
+        StringBuilder csv = new StringBuilder("id,text\n");
+        for (int i = 0; i < 50; i++) {
+            csv.append(i).append(",\"line one,\n\"\"line\"\" two\"\n");
+            csv.append(i).append(",plain ").append(i).append("\r\n");
+        }
+        Files.write(tempDir.resolve("data.csv"), csv.toString().getBytes(StandardCharsets.UTF_8));
+        CsvDataSourceFormat ds = new CsvDataSourceFormat(new File("data.csv"), tempDir.toFile());
+        Assert.assertTrue(ds.isSplittable());
+
+        List<CsvChunk> chunks = ds.split(7);
+        Assert.assertEquals(7, chunks.size());
+        List<String[]> rows = new ArrayList<>();
+        for (CsvChunk chunk : chunks) {
+            try (OpenedSource source = chunk.open()) {
+                source.getRowIterator().forEachRemaining(rows::add);
+            }
+        }
+        List<String[]> expected = ds.data();
+        Assert.assertEquals(100, expected.size());
+        Assert.assertEquals(expected.size(), rows.size());
+        for (int i = 0; i < expected.size(); i++) {
+            Assert.assertArrayEquals(expected.get(i), rows.get(i));
+        }
+    }
+
+    @Test
+    public void testMappedCsvReaderMatchesCsvParser() throws Exception {
+        Path tempDir = Files.createTempDirectory("tableschema-");
+        String csv = "\uFEFFid, text ,n\n"
+                + "1,\"quoted, with \"\"quotes\"\"\",3\r\n"
+                + "\n"
+                + "2,  spaced  ,\"multi\nline\"  \r"
+                + "3,\u00e4\u00f6\u00fc \u2003,\n"
+                + ",,\r\n"
+                + "4,\"\",last";
+        Path file = tempDir.resolve("data.csv");
+        Files.write(file, csv.getBytes(StandardCharsets.UTF_8));
+        CSVFormat[] formats = new CSVFormat[]{
+                CSVFormat.RFC4180,
+                CSVFormat.RFC4180.withIgnoreEmptyLines(false),
+                CSVFormat.RFC4180.withIgnoreSurroundingSpaces(),
+                CSVFormat.DEFAULT.withTrim()
+        };
+        for (CSVFormat format : formats) {
+            Assert.assertTrue(MappedCsvReader.supports(format));
+            List<String[]> expected = new ArrayList<>();
+            try (CSVParser parser = CSVParser.parse(csv.substring(1), format)) {
+                parser.forEach((r) -> expected.add(CsvDataSourceFormat.toRow(r)));
+            }
+            // tiny segments, so that records and characters span segment boundaries
+            for (int shift : new int[]{2, 3, MappedCsvReader.DEFAULT_SEGMENT_SHIFT}) {
+                List<String[]> rows = new ArrayList<>();
+                try (MappedCsvReader reader = new MappedCsvReader(file, format, shift)) {
+                    reader.rowIterator().forEachRemaining(rows::add);
+                }
+                Assert.assertEquals(expected.size(), rows.size());
+                for (int i = 0; i < expected.size(); i++) {
+                    Assert.assertArrayEquals(format + ", segment shift " + shift, expected.get(i), rows.get(i));
+                }
+            }
+        }
+        CsvDataSourceFormat ds = new CsvDataSourceFormat(new File("data.csv"), tempDir.toFile());
+        Assert.assertArrayEquals(new String[]{"id", "text", "n"}, ds.getHeaders());
+        Assert.assertEquals(6, ds.data().size());
+        try (OpenedSource source = ds.open()) {
+            source.project(new int[]{1});
+            Assert.assertArrayEquals(new String[]{null, "quoted, with \"quotes\"", null}, source.getRowIterator().next());
+        }
+    }
+
+    @Test
+    public void testMappedCsvReaderRejectsUnterminatedQuote() throws Exception {
+        Path tempDir = Files.createTempDirectory("tableschema-");
+        Path file = tempDir.resolve("data.csv");
+        Files.write(file, "id,text\n1,\"open".getBytes(StandardCharsets.UTF_8));
+        try (MappedCsvReader reader = new MappedCsvReader(file, CSVFormat.RFC4180)) {
+            Assert.assertTrue(reader.nextRecord());
+            exception.expect(TableSchemaException.class);
+            reader.nextRecord();
+        }
+    }
+
+    @Test
+    public void testFileCreationJson() throws Exception {
+        DataSourceFormat ds = DataSourceFormat.createDataSourceFormat(
+                new File("data/population.json"), TestHelper.getTestDataDirectory());
+        Assert.assertTrue(ds instanceof JsonArrayDataSourceFormat);
+    }
+
     @Test
     public void testWrongInputStreamCreationCsv() throws Exception {
         DataSourceFormat ds;
@@ -7,8 +7,10 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.io.*;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.stream.Collectors;
 
 import io.frictionlessdata.tableschema.schema.Schema;
@@ -132,6 +134,80 @@ class JsonArrayDataSourceFormatTest {
         });
     }
 
+    @Test
+    @DisplayName("Validate streaming a JsonArrayDataSourceFormat from a JSON file")
+    void testStreamingFileCreationJson() throws Exception {
+        JsonArrayDataSourceFormat ds = new JsonArrayDataSourceFormat(
+                new File("data/population.json"), getTestDataDirectory());
+        Assertions.assertTrue(ds.isStreaming());
+        Assertions.assertArrayEquals(populationHeaders, ds.getHeaders());
+
+        DataSourceFormat inMemory = DataSourceFormat.createDataSourceFormat(populationJson);
+        List<String[]> data = ds.data();
+        List<String[]> expected = inMemory.data();
+        Assertions.assertEquals(expected.size(), data.size());
+        for (int i = 0; i < expected.size(); i++) {
+            Assertions.assertArrayEquals(expected.get(i), data.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("Validate streaming a JsonArrayDataSourceFormat takes headers from lookahead or Schema")
+    void testStreamingHeaders() throws Exception {
+        File tempFile = Files.createTempFile("tableschema-", ".json").toFile();
+        tempFile.deleteOnExit();
+        Files.write(tempFile.toPath(), populationJsonMissingEntry.getBytes(StandardCharsets.UTF_8));
+
+        JsonArrayDataSourceFormat ds = new JsonArrayDataSourceFormat(
+                new File(tempFile.getName()), tempFile.getParentFile());
+        ds.setHeaderLookahead(1);
+        Assertions.assertArrayEquals(new String[]{"city", "population"}, ds.getHeaders());
+        ds.setHeaderLookahead(2);
+        Assertions.assertArrayEquals(new String[]{"city", "population", "year"}, ds.getHeaders());
+
+        File schemaFile = new File(getTestDataDirectory(), "schema/population_schema.json");
+        Schema schema = Schema.fromJson (schemaFile, true);
+        ds.setHeaderLookahead(1);
+        Table table = new Table().setDataSourceFormat(ds).setSchema(schema);
+        Assertions.assertArrayEquals(populationHeaders, ds.getHeaders());
+        List<Object[]> rows = table.read(false);
+        Assertions.assertEquals(3, rows.size());
+        Assertions.assertEquals("2017", rows.get(1)[1]);
+    }
+
+    @Test
+    @DisplayName("Validate a Table created from a JSON file streams the file")
+    void testTableFromJsonFileIsStreaming() throws Exception {
+        File schemaFile = new File(getTestDataDirectory(), "schema/population_schema.json");
+        Schema schema = Schema.fromJson (schemaFile, true);
+        Table table = Table.fromSource(new File("data/population.json"), getTestDataDirectory(), schema, null);
+        DataSourceFormat ds = table.getDataSourceFormat();
+        Assertions.assertTrue(ds instanceof JsonArrayDataSourceFormat);
+        Assertions.assertTrue(((JsonArrayDataSourceFormat)ds).isStreaming());
+        Assertions.assertArrayEquals(populationHeaders, ds.getHeaders());
+
+        Table inMemory = Table.fromSource(populationJson, schema, null);
+        List<Object[]> rows = table.read(false);
+        List<Object[]> expected = inMemory.read(false);
+        Assertions.assertEquals(expected.size(), rows.size());
+        for (int i = 0; i < expected.size(); i++) {
+            Assertions.assertArrayEquals(expected.get(i), rows.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("Validate a CSV file with a header starting with '[' is not taken for JSON")
+    void testCsvFileStartingWithBracket() throws Exception {
+        File tempFile = Files.createTempFile("tableschema-", ".csv").toFile();
+        tempFile.deleteOnExit();
+        Files.write(tempFile.toPath(), "[id],name\n1,london\n".getBytes(StandardCharsets.UTF_8));
+
+        DataSourceFormat ds = DataSourceFormat.createDataSourceFormat(
+                new File(tempFile.getName()), tempFile.getParentFile());
+        Assertions.assertTrue(ds instanceof CsvDataSourceFormat);
+        Assertions.assertArrayEquals(new String[]{"[id]", "name"}, ds.getHeaders());
+    }
+
     @Test
     @DisplayName("Validate reading from a JSON file and writing out yields the same result")
     public void testJsonDataSourceFormatToJson() throws Exception{
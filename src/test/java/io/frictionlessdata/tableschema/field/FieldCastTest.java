@@ -323,6 +323,30 @@ class FieldCastTest {
 
     }
 
+    @Test
+    @DisplayName("Cast integers and numbers with the compactNumbers option")
+    void testFieldCastCompactNumber() throws Exception{
+        Map<String, Object> options = new HashMap<>();
+        options.put("compactNumbers", true);
+        CompactIntegerField intField = new CompactIntegerField("intNum", null, null, null, null, null, options);
+        NumberField floatField = new NumberField("floatNum", null, null, null, null, null, options);
+        Assertions.assertTrue(Field.forType("integer", "intNum", options) instanceof CompactIntegerField);
+        Assertions.assertTrue(Field.fromJson("{\"name\": \"intNum\", \"type\": \"integer\", \"compactNumbers\": true}")
+                instanceof CompactIntegerField);
+        Assertions.assertTrue(Field.forType("integer", "intNum") instanceof IntegerField);
+
+        Assertions.assertEquals(128127L, intField.castValue("+128127"));
+        Assertions.assertEquals(Long.MIN_VALUE, intField.castValue("-9223372036854775808"));
+        Assertions.assertEquals(new BigInteger("9223372036854775808"), intField.castValue("9223372036854775808"));
+        Assertions.assertThrows(InvalidCastException.class, () -> intField.castValue("12a"));
+        Assertions.assertThrows(InvalidCastException.class, () -> intField.castValue("-"));
+
+        Assertions.assertEquals(-765L, floatField.castValue("-765"));
+        Assertions.assertEquals(-765.929, floatField.castValue("-765.929"));
+        Assertions.assertEquals("-765.929", floatField.formatValueAsString(-765.929, null, options));
+        Assertions.assertEquals("128127", intField.formatValueAsString(128127L, null, options));
+    }
+
     @Test
     void testFieldCastBoolean() throws Exception{
         BooleanField field = new BooleanField("test");
@@ -420,4 +444,30 @@ class FieldCastTest {
         BigInteger val = (BigInteger)valueObj;
         Assertions.assertEquals(18624475000000L, val.longValue());
     }
+
+    @Test
+    @DisplayName("Probing values with matches() agrees with parsing them")
+    void testFieldMatchesAgreesWithParseValue() throws Exception{
+        String[] types = new String[]{"geopoint", "duration", "year", "yearmonth", "date", "time", "datetime",
+                "integer", "number", "boolean", "object", "array", "string", "any"};
+        String[] values = new String[]{"", " ", "null", "NaN", "-INF", "1", " -42 ", "+7", "3.14", "1e10", "1.2.3",
+                "12,21", "12, 21", "a,b", "[45,32]", "[1]", "{\"lon\": 67, \"lat\": 19}", "{\"a\": 1}", "{}",
+                "[]", "''", "P1DT2H", "-PT5M", "P", "2008", "2008-07", "2008-07-01", "10:30:00", "2008-07-01T10:30:00Z",
+                "true", "False", "yes", "\u0661\u0662", "{\"type\": \"Point\", \"coordinates\": [1, 2]}", "abc"};
+
+        for (String type : types) {
+            Field<?> field = Field.forType(type, type);
+            for (String value : values) {
+                String format = field.parseFormat(value, null);
+                boolean parses;
+                try {
+                    field.parseValue(value, format, null);
+                    parses = true;
+                } catch (Exception ex) {
+                    parses = false;
+                }
+                Assertions.assertEquals(parses, field.matches(value, format, null), type+": "+value);
+            }
+        }
+    }
 }
@@ -0,0 +1,104 @@
+package io.frictionlessdata.tableschema.iterator;
+
+import com.google.common.util.concurrent.AtomicDouble;
+import io.frictionlessdata.tableschema.Table;
+import io.frictionlessdata.tableschema.beans.EmployeeBean;
+import io.frictionlessdata.tableschema.beans.NumbersBean;
+import io.frictionlessdata.tableschema.datasourceformat.DataSourceFormat;
+import io.frictionlessdata.tableschema.schema.BeanSchema;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static io.frictionlessdata.tableschema.TestHelper.getTestDataDirectory;
+
+class BeanCodecTest {
+
+    @Test
+    @DisplayName("Test writing and reading back a Bean with primitive and boxed numbers")
+    void testNumbersRoundTrip() {
+        NumbersBean bn = new NumbersBean();
+        bn.setAtomicIntegerVal(new AtomicInteger(2345123));
+        bn.setBigDecimalVal(new BigDecimal("3542352304245234542345345423453.02345234"));
+        bn.setBigIntVal(new BigInteger("23459734123456676123981234"));
+        bn.setByteVal((byte)126);
+        bn.setId(23143245);
+        bn.setLongVal(893479850249L);
+        bn.setLongClassVal(908347392304952L);
+        bn.setIntVal(-234534);
+        bn.setShortVal((short)234);
+        bn.setFloatVal(3245.1234f);
+        bn.setDoubleVal(345234552345.2345);
+        bn.setDoubleClassVal(3.4567347437347346E23);
+        bn.setFloatClassVal(2.34566246E9f);
+        bn.setAtomicLongVal(new AtomicLong(234597341234502345L));
+        bn.setAtomicDoubleVal(new AtomicDouble(3453254.34));
+
+        BeanCodec<NumbersBean> codec = BeanCodec.forClass(NumbersBean.class);
+        String[] row = codec.write(bn);
+        Assertions.assertEquals(codec.getHeaders().length, row.length);
+        Assertions.assertEquals(bn, codec.read(row));
+    }
+
+    @Test
+    @DisplayName("Test writing boxed, Atomic and small primitive integers through the IntegerField")
+    void testWriteIntegerTypes() {
+        NumbersBean bn = new NumbersBean();
+        bn.setId(23143245);
+        bn.setLongClassVal(908347392304952L);
+        bn.setByteVal((byte)-126);
+        bn.setShortVal((short)234);
+        bn.setAtomicIntegerVal(new AtomicInteger(2345123));
+        bn.setAtomicLongVal(new AtomicLong(234597341234502345L));
+        bn.setAtomicDoubleVal(new AtomicDouble(3453254.5));
+
+        String[] headers = new String[]{"id", "longClassVal", "byteVal", "shortVal",
+                "atomicIntegerVal", "atomicLongVal", "atomicDoubleVal"};
+        BeanCodec<NumbersBean> codec = BeanCodec.forClass(NumbersBean.class, headers);
+        Assertions.assertArrayEquals(new String[]{"23143245", "908347392304952", "-126", "234",
+                "2345123", "234597341234502345", "3453254.5"}, codec.write(bn));
+        Object[] values = codec.writeValues(bn);
+        Assertions.assertEquals(BigInteger.valueOf(23143245), values[0]);
+        Assertions.assertEquals(BigInteger.valueOf(234597341234502345L), values[5]);
+    }
+
+    @Test
+    @DisplayName("Test the fast path for primitives falls back to casting by the Schema field")
+    void testPrimitiveFallback() {
+        BeanCodec<NumbersBean> codec = BeanCodec.forClass(NumbersBean.class, new String[]{"intVal", "longVal", "doubleVal"});
+        NumbersBean bean = codec.read(new String[]{" 12 ", "4294967296", "1.5"});
+        Assertions.assertEquals(12, bean.getIntVal());
+        Assertions.assertEquals(4294967296L, bean.getLongVal());
+        Assertions.assertEquals(1.5, bean.getDoubleVal());
+        // too large for an int, but valid for the IntegerField, which narrows like BigInteger.intValue()
+        bean = codec.read(new String[]{"4294967297", "", "NaN"});
+        Assertions.assertEquals(1, bean.getIntVal());
+        Assertions.assertEquals(0, bean.getLongVal());
+        Assertions.assertTrue(Double.isNaN(bean.getDoubleVal()));
+    }
+
+    @Test
+    @DisplayName("Test reading Beans and writing them back gives the same Beans")
+    void testEmployeeRoundTrip() throws Exception {
+        Table table = Table.fromSource(new File("data/employee_data.csv"), getTestDataDirectory(),
+                BeanSchema.infer(EmployeeBean.class), DataSourceFormat.getDefaultCsvFormat());
+        BeanCodec<EmployeeBean> codec = BeanCodec.forClass(EmployeeBean.class, table.getHeaders());
+        Iterator<String[]> rows = table.getDataSourceFormat().iterator();
+        while (rows.hasNext()) {
+            EmployeeBean employee = codec.read(rows.next());
+            EmployeeBean copy = codec.read(codec.write(employee));
+            Assertions.assertEquals(employee.getName(), copy.getName());
+            Assertions.assertEquals(employee.getDateOfBirth(), copy.getDateOfBirth());
+            Assertions.assertEquals(employee.getAddressCoordinates(), copy.getAddressCoordinates());
+            Assertions.assertEquals(employee.getContractLength(), copy.getContractLength());
+            Assertions.assertEquals(employee.getInfo(), copy.getInfo());
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package io.frictionlessdata.tableschema.iterator;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.util.concurrent.AtomicDouble;
+import io.frictionlessdata.tableschema.Table;
+import io.frictionlessdata.tableschema.beans.EmployeeBean;
+import io.frictionlessdata.tableschema.beans.NumbersBean;
+import io.frictionlessdata.tableschema.datasourceformat.DataSourceFormat;
+import io.frictionlessdata.tableschema.schema.BeanSchema;
+import io.frictionlessdata.tableschema.util.JsonUtil;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.StringWriter;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static io.frictionlessdata.tableschema.TestHelper.getTestDataDirectory;
+
+class BeanWriterTest {
+
+    @Test
+    @DisplayName("Test writing Beans as CSV and reading them back gives the same Beans")
+    void testWriteCsv() throws Exception {
+        List<EmployeeBean> employees = readEmployees();
+        StringWriter out = new StringWriter();
+        new BeanWriter<>(EmployeeBean.class).writeCsv(employees.stream(), out, null);
+
+        BeanSchema schema = BeanSchema.infer(EmployeeBean.class);
+        Table table = Table.fromSource(out.toString(), schema, DataSourceFormat.getDefaultCsvFormat());
+        Assertions.assertArrayEquals(schema.getFieldNames().toArray(new String[0]), table.getHeaders());
+        Iterator<EmployeeBean> iter = new BeanIterator<>(table, EmployeeBean.class, false);
+        for (EmployeeBean employee : employees) {
+            EmployeeBean copy = iter.next();
+            Assertions.assertEquals(employee.getId(), copy.getId());
+            Assertions.assertEquals(employee.getName(), copy.getName());
+            Assertions.assertEquals(employee.getDateOfBirth(), copy.getDateOfBirth());
+            Assertions.assertEquals(employee.getAdmin(), copy.getAdmin());
+            Assertions.assertEquals(employee.getAddressCoordinates(), copy.getAddressCoordinates());
+            Assertions.assertEquals(employee.getContractLength(), copy.getContractLength());
+            Assertions.assertEquals(employee.getInfo(), copy.getInfo());
+        }
+        Assertions.assertFalse(iter.hasNext());
+    }
+
+    @Test
+    @DisplayName("Test writing Beans as JSON objects with properties in Schema order")
+    void testWriteJson() throws Exception {
+        List<EmployeeBean> employees = readEmployees();
+        StringWriter out = new StringWriter();
+        new BeanWriter<>(EmployeeBean.class).writeJson(employees.iterator(), out);
+
+        JsonNode json = JsonUtil.getInstance().createNode(out.toString());
+        Assertions.assertTrue(json.isArray());
+        Assertions.assertEquals(employees.size(), json.size());
+        List<String> fieldNames = BeanSchema.infer(EmployeeBean.class).getFieldNames();
+        for (int i = 0; i < employees.size(); i++) {
+            JsonNode node = json.get(i);
+            List<String> keys = new ArrayList<>();
+            node.fieldNames().forEachRemaining(keys::add);
+            Assertions.assertEquals(fieldNames, keys);
+            Assertions.assertEquals(employees.get(i).getName(), node.get("name").asText());
+            Assertions.assertEquals(employees.get(i).getId().intValue(), node.get("id").asInt());
+            Assertions.assertEquals(employees.get(i).getDateOfBirth().toString(), node.get("dateOfBirth").asText());
+        }
+    }
+
+    @Test
+    @DisplayName("Test writing Beans with the options of a custom Schema")
+    void testWriteCsvWithSchema() throws Exception {
+        List<EmployeeBean> employees = readEmployees();
+        BeanSchema schema = BeanSchema.infer(EmployeeBean.class);
+        Map<String, Object> options = new HashMap<>();
+        options.put("trueValues", Collections.singletonList("yes"));
+        options.put("falseValues", Collections.singletonList("no"));
+        schema.getField("isAdmin").setOptions(options);
+        StringWriter out = new StringWriter();
+        new BeanWriter<>(EmployeeBean.class, schema).writeCsv(employees.iterator(), out, null);
+
+        String[] lines = out.toString().split("\n");
+        Assertions.assertEquals(employees.size() + 1, lines.length);
+        for (int i = 0; i < employees.size(); i++) {
+            String expected = employees.get(i).getAdmin() ? ",yes," : ",no,";
+            Assertions.assertTrue(lines[i + 1].contains(expected), lines[i + 1]);
+        }
+    }
+
+    @Test
+    @DisplayName("Test writing Beans with boxed and Atomic numbers as CSV")
+    void testWriteCsvNumbers() {
+        NumbersBean bn = new NumbersBean();
+        bn.setId(23143245);
+        bn.setLongClassVal(908347392304952L);
+        bn.setByteVal((byte)-126);
+        bn.setShortVal((short)234);
+        bn.setIntVal(-234534);
+        bn.setLongVal(893479850249L);
+        bn.setBigIntVal(new BigInteger("23459734123456676123981234"));
+        bn.setAtomicIntegerVal(new AtomicInteger(2345123));
+        bn.setAtomicLongVal(new AtomicLong(234597341234502345L));
+        bn.setAtomicDoubleVal(new AtomicDouble(3453254.5));
+        StringWriter out = new StringWriter();
+        new BeanWriter<>(NumbersBean.class).writeCsv(Collections.singletonList(bn).iterator(), out, null);
+
+        String[] lines = out.toString().split("\r?\n");
+        Assertions.assertEquals(2, lines.length);
+        List<String> headers = Arrays.asList(lines[0].split(",", -1));
+        String[] values = lines[1].split(",", -1);
+        Assertions.assertEquals(headers.size(), values.length);
+        Assertions.assertEquals("23143245", values[headers.indexOf("id")]);
+        Assertions.assertEquals("908347392304952", values[headers.indexOf("longClassVal")]);
+        Assertions.assertEquals("-126", values[headers.indexOf("byteVal")]);
+        Assertions.assertEquals("234", values[headers.indexOf("shortVal")]);
+        Assertions.assertEquals("-234534", values[headers.indexOf("intVal")]);
+        Assertions.assertEquals("893479850249", values[headers.indexOf("longVal")]);
+        Assertions.assertEquals("23459734123456676123981234", values[headers.indexOf("bigIntVal")]);
+        Assertions.assertEquals("2345123", values[headers.indexOf("atomicIntegerVal")]);
+        Assertions.assertEquals("234597341234502345", values[headers.indexOf("atomicLongVal")]);
+        Assertions.assertEquals("3453254.5", values[headers.indexOf("atomicDoubleVal")]);
+        Assertions.assertEquals("", values[headers.indexOf("doubleClassVal")]);
+    }
+
+    private static List<EmployeeBean> readEmployees() throws Exception {
+        Table table = Table.fromSource(new File("data/employee_data.csv"), getTestDataDirectory(),
+                BeanSchema.infer(EmployeeBean.class), DataSourceFormat.getDefaultCsvFormat());
+        List<EmployeeBean> employees = new ArrayList<>();
+        new BeanIterator<>(table, EmployeeBean.class, false).forEachRemaining(employees::add);
+        Assertions.assertFalse(employees.isEmpty());
+        return employees;
+    }
+}
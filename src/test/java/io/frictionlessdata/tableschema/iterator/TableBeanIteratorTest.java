@@ -85,6 +85,23 @@ class TableBeanIteratorTest {
         Assertions.assertEquals(90, info.get("ssn"));
     }
 
+    @Test
+    @DisplayName("Test deserialization leaves the formats of the inferred Schema unchanged")
+    void testBeanDeserializationKeepsFieldFormats() throws Exception {
+        BeanIterator<EmployeeBean> bit = new BeanIterator<>(employeeTable, EmployeeBean.class, false);
+        List<String> formats = new ArrayList<>();
+        bit.schema.getFields().forEach((f) -> formats.add(f.getFormat()));
+        int count = 0;
+        while (bit.hasNext()) {
+            Assertions.assertNotNull(bit.next().getName());
+            count++;
+        }
+        Assertions.assertEquals(3, count);
+        List<String> formatsAfter = new ArrayList<>();
+        bit.schema.getFields().forEach((f) -> formatsAfter.add(f.getFormat()));
+        Assertions.assertEquals(formats, formatsAfter);
+    }
+
     @Test
     @DisplayName("Test deserialization of EmployeeBean with Annotation")
     void testBeanDeserialization2() throws Exception {
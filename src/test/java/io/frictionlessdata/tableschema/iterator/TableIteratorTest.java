@@ -3,6 +3,7 @@ package io.frictionlessdata.tableschema.iterator;
 import io.frictionlessdata.tableschema.Table;
 import io.frictionlessdata.tableschema.datasourceformat.DataSourceFormat;
 import io.frictionlessdata.tableschema.exception.InvalidCastException;
+import io.frictionlessdata.tableschema.exception.TableSchemaException;
 import io.frictionlessdata.tableschema.schema.Schema;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -11,7 +12,9 @@ import org.junit.jupiter.api.Test;
 
 import java.io.File;
 import java.io.FileInputStream;
+import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -102,6 +105,118 @@ class TableIteratorTest {
         Assertions.assertNull(obj.get("year"));
     }
 
+    @Test
+    @DisplayName("Test iterating a file-based Table reads the file only once")
+    void testSinglePassIteration() throws Exception {
+        Iterator<Object[]> iter = validPopulationTable.iterator();
+        int rows = 0;
+        while (iter.hasNext()) {
+            iter.next();
+            rows++;
+        }
+        Assertions.assertEquals(3, rows);
+        Assertions.assertEquals(1, validPopulationTable.getDataSourceFormat().getPassCount());
+    }
+
+    @Test
+    @DisplayName("Test Iterator over some of the fields")
+    void testProjectedIteration() throws Exception {
+        Iterator<Object[]> iter = validPopulationTable.iterator(Arrays.asList("population", "city"));
+        Object[] row = iter.next();
+        Assertions.assertArrayEquals(new Object[]{new BigInteger("8780000"), "london"}, row);
+        int rows = 1;
+        while (iter.hasNext()) {
+            Assertions.assertEquals(2, iter.next().length);
+            rows++;
+        }
+        Assertions.assertEquals(3, rows);
+        Assertions.assertEquals(1, validPopulationTable.getDataSourceFormat().getPassCount());
+
+        Iterator<Map<String, Object>> keyedIter = Table.fromSource(jsonData).keyedIterator(Arrays.asList("year"));
+        Map<String, Object> keyedRow = keyedIter.next();
+        Assertions.assertEquals(1, keyedRow.size());
+        Assertions.assertEquals("2017", keyedRow.get("year"));
+
+        Assertions.assertThrows(TableSchemaException.class,
+                () -> validPopulationTable.iterator(Arrays.asList("country")));
+    }
+
+    @Test
+    @DisplayName("Test Iterator over the rows matching a filter")
+    void testFilteredIteration() throws Exception {
+        RowFilter filter = RowFilter.and(
+                RowFilter.field("population", (p) -> ((BigInteger)p).intValue() > 2500000),
+                RowFilter.not(RowFilter.rawField("city", "paris"::equals)));
+        Iterator<Object[]> iter = validPopulationTable.iterator(Arrays.asList("city"), filter);
+        List<Object> cities = new ArrayList<>();
+        iter.forEachRemaining((row) -> cities.add(row[0]));
+        Assertions.assertEquals(Arrays.asList("london", "rome"), cities);
+
+        // the invalid year of the first row is never cast, as the row does not match
+        Iterator<Map<String, Object>> keyedIter = invalidPopulationTable
+                .keyedIterator(null, RowFilter.rawField("city", (c) -> !c.equals("2017")));
+        Assertions.assertEquals("paris", keyedIter.next().get("city"));
+        Assertions.assertEquals("rome", keyedIter.next().get("city"));
+        Assertions.assertFalse(keyedIter.hasNext());
+    }
+
+    @Test
+    @DisplayName("Test Iterator over rows that cast values on access")
+    void testLazyIteration() throws Exception {
+        Iterator<LazyRow> iter = invalidPopulationTable.lazyIterator();
+        LazyRow row = iter.next();
+        Assertions.assertEquals(3, row.size());
+        Assertions.assertEquals("london", row.getRaw("year"));
+        Assertions.assertEquals(new BigInteger("8780000"), row.get("population"));
+        Assertions.assertThrows(InvalidCastException.class, row::toArray);
+        Assertions.assertEquals("paris", iter.next().toArray()[0]);
+
+        Iterator<LazyRow> filtered = validPopulationTable.lazyIterator(Arrays.asList("city"),
+                RowFilter.field("population", (p) -> ((BigInteger)p).intValue() < 2500000));
+        row = filtered.next();
+        Assertions.assertEquals("paris", row.get("city"));
+        Assertions.assertFalse(filtered.hasNext());
+    }
+
+    @Test
+    @DisplayName("Test Iterator over batches of rows")
+    void testBatchIteration() throws Exception {
+        List<Object[]> expected = new ArrayList<>();
+        validPopulationTable.iterator().forEachRemaining(expected::add);
+
+        Iterator<RowBatch> batches = validPopulationTable.readBatches(2);
+        List<Object[]> rows = new ArrayList<>();
+        RowBatch first = null;
+        while (batches.hasNext()) {
+            RowBatch batch = batches.next();
+            if (null == first)
+                first = batch;
+            Assertions.assertSame(first, batch);
+            Assertions.assertTrue(batch.size() > 0 && batch.size() <= 2);
+            for (int i = 0; i < batch.size(); i++) {
+                rows.add(batch.getRow(i));
+            }
+        }
+        Assertions.assertEquals(expected.size(), rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            Assertions.assertArrayEquals(expected.get(i), rows.get(i));
+        }
+
+        RowBatch batch = validPopulationTable.readBatches(10, Arrays.asList("population", "city"),
+                RowFilter.rawField("city", "paris"::equals)).next();
+        Assertions.assertEquals(1, batch.size());
+        Assertions.assertEquals(new BigInteger("2240000"), batch.get(0, "population"));
+        Assertions.assertEquals("paris", batch.getColumn(1)[0]);
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> batch.get(1, 0));
+
+        Table noSchema = Table.fromSource("a,b\n1,x\n2,y\n3,z");
+        Iterator<RowBatch> raw = noSchema.readBatches(2);
+        Assertions.assertArrayEquals(new Object[]{"1", "2"}, Arrays.copyOf(raw.next().getColumn("a"), 2));
+        Assertions.assertEquals("z", raw.next().get(0, "b"));
+        Assertions.assertFalse(raw.hasNext());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> validPopulationTable.readBatches(0));
+    }
+
     @Test
     void testNextInvalidCast() throws Exception {
         Assertions.assertThrows(InvalidCastException.class, () -> {
@@ -109,6 +224,26 @@ class TableIteratorTest {
         });
     }
 
+    @Test
+    @DisplayName("Test Iterator releases the data source on close, at the end of the data and on failure")
+    void testIteratorReleasesSource() throws Exception {
+        TableIterator<Object[]> iter = new TableIterator<>(validPopulationTable);
+        Assertions.assertNotNull(iter.source);
+        iter.next();
+        iter.close();
+        Assertions.assertNull(iter.source);
+        iter.close();
+
+        try (TableIterator<Object[]> all = new TableIterator<>(validPopulationTable)) {
+            all.forEachRemaining((row) -> {});
+            Assertions.assertNull(all.source);
+        }
+
+        TableIterator<Object[]> invalid = new TableIterator<>(invalidPopulationTable);
+        Assertions.assertThrows(InvalidCastException.class, invalid::next);
+        Assertions.assertNull(invalid.source);
+    }
+
     @Test
     @DisplayName("Test String Array Iterator on data with trailing null values in rows")
     void testTrailingNullsIterator() throws Exception{
@@ -8,9 +8,18 @@ import org.junit.jupiter.api.Test;
 
 import java.io.File;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static io.frictionlessdata.tableschema.TestHelper.getResourceFile;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class SchemaInferralTests {
 
@@ -29,4 +38,113 @@ public class SchemaInferralTests {
                 "/fixtures/schema/employee_schema.json");
         assertEquals(objectMapper.readValue(expectedString, Object.class), jsonObject);
     }
+
+    @Test
+    @DisplayName("Infer a Schema with a row limit without reading the rest of the data")
+    void inferASchemaWithRowLimit() throws Exception{
+        Path tempDir = Files.createTempDirectory("tableschema-");
+        // the unterminated quote in the last row would make reading the whole file fail
+        String csv = "id,name\n1,foo\n2,bar\n3,baz\n4,\"unterminated\n";
+        Files.write(tempDir.resolve("data.csv"), csv.getBytes(StandardCharsets.UTF_8));
+        Table table = Table.fromSource(new File("data.csv"), tempDir.toFile());
+
+        Schema schema = table.inferSchema(1);
+
+        assertEquals("integer", schema.getField("id").getType());
+        assertEquals("string", schema.getField("name").getType());
+    }
+
+    @Test
+    @DisplayName("Infer Schemas on several threads at the same time")
+    void inferSchemasConcurrently() throws Exception{
+        File basePath = getResourceFile("/fixtures/data/");
+        File source = getResourceFile("employee_data.csv");
+        ObjectMapper objectMapper = new ObjectMapper();
+        Object expected = objectMapper.readValue(TestHelper.getResourceFileContent(
+                "/fixtures/schema/employee_schema.json"), Object.class);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Schema>> futures = new ArrayList<>();
+            for (int i = 0; i < 32; i++) {
+                futures.add(executor.submit(() -> Table.fromSource(source, basePath).inferSchema()));
+            }
+            for (Future<Schema> future : futures) {
+                assertEquals(expected, objectMapper.readValue(future.get().getJson(), Object.class));
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Infer a Schema with columns spread over several threads")
+    void inferASchemaInParallel() throws Exception{
+        Path tempDir = Files.createTempDirectory("tableschema-");
+        String[] values = new String[]{"1", "2.5", "true", "2008-07-01", "10:30:00", "P1D", "abc", "12,21", ""};
+        int columnCount = 60;
+        StringBuilder csv = new StringBuilder();
+        for (int j = 0; j < columnCount; j++) {
+            csv.append((j > 0) ? "," : "").append("col").append(j);
+        }
+        csv.append("\n");
+        // more rows than one inferral block, with the values drifting between types per column
+        for (int i = 0; i < 2500; i++) {
+            for (int j = 0; j < columnCount; j++) {
+                String value = values[(j + (i * j) / 700) % values.length];
+                csv.append((j > 0) ? "," : "").append(value.contains(",") ? "\"" + value + "\"" : value);
+            }
+            csv.append("\n");
+        }
+        Files.write(tempDir.resolve("data.csv"), csv.toString().getBytes(StandardCharsets.UTF_8));
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        Table table = Table.fromSource(new File("data.csv"), tempDir.toFile());
+        Object expected = objectMapper.readValue(table.inferSchema().getJson(), Object.class);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Table parallelTable = Table.fromSource(new File("data.csv"), tempDir.toFile());
+            Schema schema = parallelTable.inferSchema(parallelTable.getHeaders(), -1, executor, 4);
+            assertEquals(expected, objectMapper.readValue(schema.getJson(), Object.class));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Infer a Schema from a random sample of sorted data")
+    void inferASchemaFromSample() throws Exception{
+        Path tempDir = Files.createTempDirectory("tableschema-");
+        // sorted data, the first rows are not representative
+        StringBuilder csv = new StringBuilder("id,code\n");
+        for (int i = 0; i < 1000; i++) {
+            csv.append(i).append(",").append((i < 100) ? String.valueOf(i) : "C" + i).append("\n");
+        }
+        Files.write(tempDir.resolve("data.csv"), csv.toString().getBytes(StandardCharsets.UTF_8));
+
+        File source = new File("data.csv");
+        assertEquals("integer", Table.fromSource(source, tempDir.toFile()).inferSchema(50).getField("code").getType());
+
+        String expected = Table.fromSource(source, tempDir.toFile()).inferSchema().getField("code").getType();
+        Schema schema = Table.fromSource(source, tempDir.toFile()).inferSchemaFromSample(100, 42L);
+        assertEquals(expected, schema.getField("code").getType());
+        assertEquals("integer", schema.getField("id").getType());
+        assertEquals(schema, Table.fromSource(source, tempDir.toFile()).inferSchemaFromSample(100, 42L));
+    }
+
+    @Test
+    @DisplayName("Sampled rows are returned in the order they were read")
+    void sampleRowsInOrder() {
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            rows.add(new Object[]{i});
+        }
+        List<Object[]> sample = TypeInferrer.sample(rows.iterator(), 10, 7L);
+        assertEquals(10, sample.size());
+        for (int i = 1; i < sample.size(); i++) {
+            assertTrue((Integer) sample.get(i - 1)[0] < (Integer) sample.get(i)[0]);
+        }
+        assertEquals(5, TypeInferrer.sample(rows.subList(0, 5).iterator(), 10, 7L).size());
+    }
 }
@@ -721,6 +721,17 @@ public class SchemaTest {
         Assert.assertTrue(expectedSchema.similar(schema));
     }
 
+    // The shared BeanSchema is inferred once per class, infer() always returns a new instance
+    @Test
+    public void testSharedSchemaFromBeanClass() throws Exception {
+        BeanSchema shared = BeanSchema.shared(EmployeeBean.class);
+        Assert.assertSame(shared, BeanSchema.shared(EmployeeBean.class));
+        Schema inferred = BeanSchema.infer(EmployeeBean.class);
+        Assert.assertNotSame(shared, inferred);
+        Assert.assertTrue(inferred.similar(shared));
+        Assert.assertEquals(inferred.getFields().size(), shared.getFAnnotatedFieldMap().size());
+    }
+
     private static File getResourceFile(String fileName) throws URISyntaxException {
         try {
             // Create file-URL of source file:
@@ -19,6 +19,8 @@ import java.nio.file.Paths;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import static io.frictionlessdata.tableschema.TestHelper.getTestDataDirectory;
@@ -39,6 +41,84 @@ public class TableIterationTest {
         Assert.assertEquals("[id, title]", Arrays.toString(table.getHeaders()));
     }
 
+    @Test
+    public void testParallelStreamCastData() throws Exception{
+        File testDataDir = getTestDataDirectory();
+        Schema employeeTableSchema = getEmployeeTableSchema();
+        File file = new File("data/employee_data.csv");
+        Table employeeTable = Table.fromSource(file, testDataDir, employeeTableSchema, DataSourceFormat.getDefaultCsvFormat());
+
+        List<Object[]> expected = employeeTable.read(true);
+        List<Object[]> streamed;
+        try (Stream<Object[]> stream = employeeTable.parallelStream(true)) {
+            streamed = stream.collect(Collectors.toList());
+        }
+        Assert.assertEquals(expected.size(), streamed.size());
+        for (int i = 0; i < expected.size(); i++) {
+            Assert.assertEquals(expected.get(i)[0], streamed.get(i)[0]);
+            Assert.assertEquals(expected.get(i)[2], streamed.get(i)[2]);
+        }
+    }
+
+    @Test
+    public void testStreamStringArrayData() throws Exception{
+        Schema schema = new Schema();
+        schema.addField(new IntegerField("id"));
+        schema.addField(new StringField("title"));
+        List<String[]> data = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            data.add(new String[]{Integer.toString(i), "title " + i});
+        }
+        Table table = new Table(data, new String[]{"id", "title"}, schema);
+
+        Spliterator<Object[]> spliterator = table.stream().spliterator();
+        Assert.assertTrue(spliterator.hasCharacteristics(Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.SIZED));
+        Assert.assertEquals(10000, spliterator.estimateSize());
+
+        List<Object[]> rows = table.stream().parallel().collect(Collectors.toList());
+        Assert.assertEquals(10000, rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            Assert.assertEquals(BigInteger.valueOf(i), rows.get(i)[0]);
+        }
+    }
+
+    @Test
+    public void testStreamCsvFileEstimatesSize() throws Exception{
+        File testDataDir = getTestDataDirectory();
+        Schema employeeTableSchema = getEmployeeTableSchema();
+        File file = new File("data/employee_data.csv");
+        Table employeeTable = Table.fromSource(file, testDataDir, employeeTableSchema, DataSourceFormat.getDefaultCsvFormat());
+        long fileSize = employeeTable.getDataSourceFormat().getFileSize();
+        Assert.assertEquals(Files.size(new File(testDataDir, "data/employee_data.csv").toPath()), fileSize);
+
+        try (Stream<Object[]> stream = employeeTable.stream()) {
+            Spliterator<Object[]> spliterator = stream.spliterator();
+            Assert.assertFalse(spliterator.hasCharacteristics(Spliterator.SIZED));
+            Assert.assertEquals(fileSize, spliterator.estimateSize());
+            Assert.assertTrue(spliterator.tryAdvance((row) -> {}));
+            // two more rows of about the same length, plus the header
+            long estimate = spliterator.estimateSize();
+            Assert.assertTrue(String.valueOf(estimate), (estimate >= 2) && (estimate <= 5));
+        }
+    }
+
+    @Test
+    public void testStreamCsvData() throws Exception{
+        File testDataDir = getTestDataDirectory();
+        Schema employeeTableSchema = getEmployeeTableSchema();
+        File file = new File("data/employee_data.csv");
+        Table employeeTable = Table.fromSource(file, testDataDir, employeeTableSchema, DataSourceFormat.getDefaultCsvFormat());
+
+        List<Object[]> expected = employeeTable.read(true);
+        try (Stream<Map<String, Object>> stream = employeeTable.keyedStream().parallel()) {
+            List<Map<String, Object>> streamed = stream.collect(Collectors.toList());
+            Assert.assertEquals(expected.size(), streamed.size());
+            for (int i = 0; i < expected.size(); i++) {
+                Assert.assertEquals(expected.get(i)[0], streamed.get(i).get("id"));
+            }
+        }
+    }
+
     @Test
     public void testReadUncastData() throws Exception{
         File testDataDir = getTestDataDirectory();